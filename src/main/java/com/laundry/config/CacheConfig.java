@@ -0,0 +1,15 @@
+package com.laundry.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Hibernate second-level cache for reference data ({@code Service},
+ * {@code ServicePrice}, {@code Product}). Defaults live in
+ * {@code cache.properties}, region sizes and TTLs in {@code ehcache.xml}.
+ */
+@Configuration
+@PropertySource("classpath:cache.properties")
+public class CacheConfig {
+
+}
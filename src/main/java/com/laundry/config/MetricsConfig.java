@@ -0,0 +1,60 @@
+package com.laundry.config;
+
+import com.laundry.metrics.JdbcStatementCounter;
+import com.laundry.service.impl.ReceiptPrintQueue;
+import com.laundry.service.impl.TcmbCurrencyService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Application metrics, scraped from {@code /actuator/prometheus}:
+ * <ul>
+ *     <li>{@value #SERVICE_TIMER}: duration of every public method of the
+ *         services annotated with {@code @Timed(SERVICE_TIMER)}, tagged with
+ *         class, method and exception</li>
+ *     <li>{@code jdbc.statements} and {@code http.server.requests.jdbc.statements}:
+ *         SQL statements in total and per request</li>
+ *     <li>{@code receipt.print.queue.pending}: receipts waiting for the printer</li>
+ *     <li>{@code tcmb.rates.age}: time since the exchange rates were last loaded</li>
+ * </ul>
+ * Exposure and histogram defaults live in {@code metrics.properties}.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "laundry.service";
+
+    @Bean
+    HibernatePropertiesCustomizer jdbcStatementCounterCustomizer(JdbcStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    MeterBinder receiptPrintQueueMetrics(ReceiptPrintQueue receiptPrintQueue) {
+        return registry -> Gauge.builder("receipt.print.queue.pending", receiptPrintQueue, ReceiptPrintQueue::getPendingCount)
+                .description("Receipts queued or printing")
+                .register(registry);
+    }
+
+    @Bean
+    MeterBinder tcmbRateMetrics(TcmbCurrencyService tcmbCurrencyService) {
+        return registry -> Gauge.builder("tcmb.rates.age", tcmbCurrencyService, MetricsConfig::secondsSinceUpdate)
+                .description("Time since the TCMB exchange rates were last loaded")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private static double secondsSinceUpdate(TcmbCurrencyService tcmbCurrencyService) {
+        Instant lastUpdatedAt = tcmbCurrencyService.getLastUpdatedAt();
+        return lastUpdatedAt == null ? Double.NaN : Duration.between(lastUpdatedAt, Instant.now()).toMillis() / 1000.0;
+    }
+}
@@ -1,10 +1,19 @@
 package com.laundry.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+/**
+ * JPA setup. Default Hibernate/JDBC tuning (insert batching, MySQL batch
+ * rewriting) and the Flyway baseline settings live in
+ * {@code persistence.properties}; any key there can be overridden from the
+ * application's own configuration. Schema changes go into
+ * {@code db/migration} as new versioned scripts.
+ */
 @Configuration
 @EnableJpaAuditing
+@PropertySource("classpath:persistence.properties")
 public class PersistenceConfig {
 
 }
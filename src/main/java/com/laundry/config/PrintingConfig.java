@@ -0,0 +1,14 @@
+package com.laundry.config;
+
+import com.laundry.receipt.sink.ReceiptPrintingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Receipt printers ({@code app.receipt.printing.*}), see {@link ReceiptPrintingProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReceiptPrintingProperties.class)
+public class PrintingConfig {
+
+}
@@ -1,6 +1,9 @@
 package com.laundry.config;
 
 import com.laundry.security.JwtRequestFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.*;
@@ -17,8 +20,12 @@ public class SecurityConfig {
 
     private final JwtRequestFilter jwtRequestFilter;
 
-    public SecurityConfig(JwtRequestFilter jwtRequestFilter) {
+    private final int managementPort;
+
+    public SecurityConfig(JwtRequestFilter jwtRequestFilter,
+                          @Value("${management.server.port:-1}") int managementPort) {
         this.jwtRequestFilter = jwtRequestFilter;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -30,6 +37,7 @@ public class SecurityConfig {
                     auth.requestMatchers("/api/public/**").permitAll();
                     auth.requestMatchers("/api/auth/**").permitAll();
                     auth.requestMatchers("/view/auth/**").permitAll();
+                    auth.requestMatchers(this::isPrometheusScrape).permitAll();
                     auth.anyRequest().authenticated();
                 })
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -37,6 +45,18 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Prometheus scrapes without a token, but only on the management port,
+     * which {@code metrics.properties} binds to localhost. On the application
+     * port, and when actuator shares it, the endpoint needs a token like any
+     * other.
+     */
+    private boolean isPrometheusScrape(HttpServletRequest request) {
+        return managementPort > 0
+                && request.getLocalPort() == managementPort
+                && EndpointRequest.to("prometheus").matches(request);
+    }
+
     // AuthenticationManager
     @Bean
     public AuthenticationManager authenticationManager(
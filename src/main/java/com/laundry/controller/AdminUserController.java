@@ -1,16 +1,19 @@
 package com.laundry.controller;
 
 import com.laundry.dto.ApiResponse;
+import com.laundry.dto.CursorPageResponseDto;
 import com.laundry.dto.UserResponseDto;
+import com.laundry.dto.UserSummaryResponseDto;
 import com.laundry.service.AdminUserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/admin/users")
@@ -24,9 +27,19 @@ public class AdminUserController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponseDto>>> getAllUsers() {
-        List<UserResponseDto> users = adminUserService.getAllUsers();
-        return ResponseEntity.ok(ApiResponse.success("All users fetched", users));
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<UserSummaryResponseDto>>> getUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        CursorPageResponseDto<UserSummaryResponseDto> users =
+                adminUserService.getUsers(role, startDate, endDate, keyword, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("Users fetched", users));
     }
 
     @GetMapping("/{id}")
@@ -2,8 +2,12 @@ package com.laundry.controller;
 
 import com.laundry.dto.*;
 import com.laundry.entity.OrderStatus;
+import com.laundry.receipt.ReceiptFormat;
+import com.laundry.receipt.RenderedReceipt;
 import com.laundry.security.JwtUtil;
 import com.laundry.service.OrderService;
+import com.laundry.service.impl.IdempotencyStore;
+import com.laundry.util.ETagUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,10 +15,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -23,21 +27,42 @@ public class OrderController {
 
     private final OrderService orderService;
 
-    public OrderController(OrderService orderService) {
+    private final IdempotencyStore idempotencyStore;
+
+    public OrderController(OrderService orderService, IdempotencyStore idempotencyStore) {
         this.orderService = orderService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @PostMapping
     public ResponseEntity<ApiResponse<OrderResponseDto>> createOrder(
             @RequestBody OrderRequestDto requestDto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             Authentication authentication
     ) throws Exception {
         Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
         String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
-        OrderResponseDto created = orderService.createOrder(requestDto, currentUserId, currentUserRole);
+        OrderResponseDto created = idempotencyStore.execute("POST /api/orders", idempotencyKey, currentUserId,
+                requestDto, OrderResponseDto.class,
+                () -> orderService.createOrder(requestDto, currentUserId, currentUserRole));
         return ResponseEntity.ok(ApiResponse.success("Order created successfully", created));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<OrderBatchResponseDto>> createOrders(
+            @RequestBody OrderBatchRequestDto requestDto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            Authentication authentication
+    ) throws Exception {
+        Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
+        String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
+        OrderBatchResponseDto result = idempotencyStore.execute("POST /api/orders/batch", idempotencyKey, currentUserId,
+                requestDto, OrderBatchResponseDto.class,
+                () -> orderService.createOrders(requestDto, currentUserId, currentUserRole));
+        return ResponseEntity.ok(ApiResponse.success(
+                "Orders created: " + result.getCreated() + " of " + result.getRequested(), result));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<OrderResponseDto>> getOrderById(
             @PathVariable Long id,
@@ -46,41 +71,54 @@ public class OrderController {
         Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
         String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
         OrderResponseDto orderDto = orderService.getOrderById(id, currentUserId, currentUserRole);
-        return ResponseEntity.ok(ApiResponse.success("Order found", orderDto));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.fromVersion(orderDto.getVersion()))
+                .body(ApiResponse.success("Order found", orderDto));
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<OrderResponseDto>>> getAllOrders(
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<OrderSummaryResponseDto>>> getOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication
     ) {
         Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
         String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
-        List<OrderResponseDto> orders = orderService.getAllOrders(currentUserId, currentUserRole);
-        return ResponseEntity.ok(ApiResponse.success("All orders fetched", orders));
+        CursorPageResponseDto<OrderSummaryResponseDto> orders =
+                orderService.getOrders(cursor, size, currentUserId, currentUserRole);
+        return ResponseEntity.ok(ApiResponse.success("Orders fetched", orders));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<OrderResponseDto>> updateOrder(
             @PathVariable Long id,
             @RequestBody OrderRequestDto requestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication
     ) {
         Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
         String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
-        OrderResponseDto updated = orderService.updateOrder(id, requestDto, currentUserId, currentUserRole);
-        return ResponseEntity.ok(ApiResponse.success("Order updated successfully", updated));
+        OrderResponseDto updated = orderService.updateOrder(
+                id, requestDto, ETagUtil.parseIfMatch(ifMatch), currentUserId, currentUserRole);
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.fromVersion(updated.getVersion()))
+                .body(ApiResponse.success("Order updated successfully", updated));
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<ApiResponse<OrderResponseDto>> patchOrder(
             @PathVariable Long id,
             @RequestBody OrderRequestDto requestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication
     ) {
         Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
         String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
-        OrderResponseDto patched = orderService.patchOrder(id, requestDto, currentUserId, currentUserRole);
-        return ResponseEntity.ok(ApiResponse.success("Order patched successfully", patched));
+        OrderResponseDto patched = orderService.patchOrder(
+                id, requestDto, ETagUtil.parseIfMatch(ifMatch), currentUserId, currentUserRole);
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.fromVersion(patched.getVersion()))
+                .body(ApiResponse.success("Order patched successfully", patched));
     }
 
     @DeleteMapping("/{id}")
@@ -97,13 +135,30 @@ public class OrderController {
     @PatchMapping("/{id}/advance")
     public ResponseEntity<ApiResponse<OrderResponseDto>> advanceOrderStatus(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication
+    ) {
+        Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
+        String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
+
+        OrderResponseDto advanced = orderService.advanceOrderStatus(
+                id, ETagUtil.parseIfMatch(ifMatch), currentUserId, currentUserRole);
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.fromVersion(advanced.getVersion()))
+                .body(ApiResponse.success("Order status advanced", advanced));
+    }
+
+    @PostMapping("/advance")
+    public ResponseEntity<ApiResponse<OrderBulkAdvanceResponseDto>> advanceOrderStatuses(
+            @RequestBody OrderBulkAdvanceRequestDto requestDto,
             Authentication authentication
     ) {
         Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
         String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
 
-        OrderResponseDto advanced = orderService.advanceOrderStatus(id, currentUserId, currentUserRole);
-        return ResponseEntity.ok(ApiResponse.success("Order status advanced", advanced));
+        OrderBulkAdvanceResponseDto result = orderService.advanceOrderStatuses(requestDto, currentUserId, currentUserRole);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Order statuses advanced: " + result.getAdvanced().size(), result));
     }
 
     @GetMapping("/search")
@@ -135,6 +190,35 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success("Orders fetched", orders));
     }
 
+    @GetMapping(value = "/search", params = "paging=cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponseDto<OrderResponseDto>>> searchOrdersByCursor(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        CursorPageResponseDto<OrderResponseDto> orders = orderService.searchOrdersByCursor(
+                userId,
+                status,
+                startDate,
+                endDate,
+                minAmount,
+                maxAmount,
+                keyword,
+                cursor,
+                size,
+                includeTotal);
+        return ResponseEntity.ok(ApiResponse.success("Orders fetched", orders));
+    }
+
     @GetMapping("/{id}/print")
     public ResponseEntity<ApiResponse<?>> printOrder(
             @PathVariable Long id,
@@ -146,4 +230,74 @@ public class OrderController {
         orderService.printOrder(id, currentUserId, currentUserRole);
         return ResponseEntity.ok(ApiResponse.success("Order printed successfully", null));
     }
+
+    /**
+     * Prints the receipts of the given orders, or of the orders created in a
+     * date range, as one print job.
+     */
+    @PostMapping("/print")
+    public ResponseEntity<ApiResponse<OrderBatchPrintResponseDto>> printOrders(
+            @RequestBody OrderBatchPrintRequestDto requestDto,
+            Authentication authentication
+    ) throws Exception {
+        Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
+        String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
+
+        OrderBatchPrintResponseDto result = orderService.printOrders(requestDto, currentUserId, currentUserRole);
+        return ResponseEntity.ok(ApiResponse.success("Orders printed: " + result.getPrinted().size(), result));
+    }
+
+    /**
+     * Dry run of {@link #printOrders}: returns the pages that would be printed
+     * as a multi-page PDF, without touching the printer.
+     */
+    @PostMapping(value = "/print", params = "dryRun=true")
+    public ResponseEntity<byte[]> previewOrderPrints(
+            @RequestBody OrderBatchPrintRequestDto requestDto,
+            Authentication authentication
+    ) {
+        Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
+        String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
+
+        byte[] pdf = orderService.renderOrderReceipts(requestDto, currentUserId, currentUserRole);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename("receipts.pdf")
+                        .build()
+                        .toString())
+                .body(pdf);
+    }
+
+    /**
+     * Returns the order's receipt as a PNG image or PDF document, rendered
+     * without a printer. The {@code ETag} is a hash of the rendered receipt,
+     * so clients revalidating with {@code If-None-Match} get
+     * {@code 304 Not Modified} until anything printed on it changes.
+     */
+    @GetMapping("/{id}/receipt")
+    public ResponseEntity<byte[]> getReceipt(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "png") String format,
+            Authentication authentication,
+            WebRequest request
+    ) {
+        Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
+        String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
+
+        RenderedReceipt receipt = orderService.getReceipt(id, ReceiptFormat.parse(format), currentUserId, currentUserRole);
+        String eTag = receipt.getEtag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(receipt.getFormat().getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename(receipt.getReferenceNo() + "." + receipt.getFormat().getExtension())
+                        .build()
+                        .toString())
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(receipt.getBody());
+    }
 }
@@ -1,40 +1,52 @@
 package com.laundry.controller;
 
-import com.google.zxing.WriterException;
+import com.laundry.dto.QrCodeFormat;
+import com.laundry.dto.QrCodeImage;
 import com.laundry.service.impl.QrCodeGeneratorService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.io.IOException;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/qrcode")
 public class QrCodeController {
 
-    private final com.laundry.service.impl.QrCodeGeneratorService qrCodeGeneratorService;
+    /**
+     * A QR code only depends on the request parameters, so clients may reuse
+     * it for a day and revalidate with {@code If-None-Match} afterwards.
+     */
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
+    private final QrCodeGeneratorService qrCodeGeneratorService;
 
     public QrCodeController(QrCodeGeneratorService qrCodeGeneratorService) {
         this.qrCodeGeneratorService = qrCodeGeneratorService;
     }
 
-    @GetMapping(value = "/generate", produces = MediaType.IMAGE_PNG_VALUE)
+    @GetMapping("/generate")
     public ResponseEntity<byte[]> generateQrCode(@RequestParam String text,
                                                  @RequestParam(defaultValue = "250") int width,
-                                                 @RequestParam(defaultValue = "250") int height) {
-        try {
-            byte[] qrImage = qrCodeGeneratorService.generateQRCodeImage(text, width, height);
-
-            return ResponseEntity
-                    .ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"qrcode.png\"")
-                    .contentType(MediaType.IMAGE_PNG)
-                    .body(qrImage);
-
-        } catch (WriterException | IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                                                 @RequestParam(defaultValue = "250") int height,
+                                                 @RequestParam(defaultValue = "png") String format,
+                                                 WebRequest request) {
+        QrCodeImage qrCode = qrCodeGeneratorService.generate(text, width, height, QrCodeFormat.parse(format));
+        if (request.checkNotModified(qrCode.getEtag())) {
+            return null;
         }
+        return ResponseEntity
+                .ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename("qrcode." + qrCode.getFormat().getExtension())
+                        .build()
+                        .toString())
+                .contentType(qrCode.getFormat().getMediaType())
+                .cacheControl(CACHE_CONTROL)
+                .eTag(qrCode.getEtag())
+                .body(qrCode.getBody());
     }
 }
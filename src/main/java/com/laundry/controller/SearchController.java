@@ -0,0 +1,39 @@
+package com.laundry.controller;
+
+import com.laundry.dto.ApiResponse;
+import com.laundry.dto.SearchResultDto;
+import com.laundry.dto.SearchType;
+import com.laundry.security.JwtUtil;
+import com.laundry.service.SearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SearchResultDto>>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication
+    ) {
+        Long currentUserId = JwtUtil.getUserIdFromAuthentication(authentication);
+        String currentUserRole = JwtUtil.getRoleFromAuthentication(authentication);
+        List<SearchResultDto> results = searchService.search(q, SearchType.parse(type), limit, currentUserId, currentUserRole);
+        return ResponseEntity.ok(ApiResponse.success("Search results fetched", results));
+    }
+}
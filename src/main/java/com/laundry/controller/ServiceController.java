@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -38,6 +39,24 @@ public class ServiceController {
         return ResponseEntity.ok(ApiResponse.success("All services fetched", services));
     }
 
+    /**
+     * Serves the whole catalog from its cached JSON snapshot. Clients sending the
+     * last {@code ETag} back in {@code If-None-Match} get {@code 304 Not Modified}
+     * until a service or price changes.
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<byte[]> getCatalog(WebRequest request) {
+        ServiceCatalogSnapshot catalog = serviceService.getCatalog();
+        if (request.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(catalog.getEtag())
+                .body(catalog.getBody());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ServiceResponseDto>> getServiceById(@PathVariable Long id) {
         ServiceResponseDto serviceDto = serviceService.getServiceById(id);
@@ -0,0 +1,22 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. Pass {@code nextCursor} back as the
+ * {@code cursor} request parameter to fetch the following page; it is
+ * {@code null} when {@code hasNext} is {@code false}. {@code totalElements}
+ * is only filled in when the caller explicitly asked for a count.
+ */
+@Value
+@Builder
+public class CursorPageResponseDto<T> {
+    List<T> items;
+    int size;
+    boolean hasNext;
+    String nextCursor;
+    Long totalElements;
+}
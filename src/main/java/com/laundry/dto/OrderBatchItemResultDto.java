@@ -0,0 +1,19 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Outcome of one entry of a batch order request. {@code index} is the entry's
+ * position in the request; exactly one of {@code order} and {@code error} is set.
+ */
+@Value
+@Builder
+@Jacksonized
+public class OrderBatchItemResultDto {
+    int index;
+    boolean created;
+    OrderResponseDto order;
+    String error;
+}
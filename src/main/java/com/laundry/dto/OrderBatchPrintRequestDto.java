@@ -0,0 +1,26 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Prints the receipts of many orders as one print job. Orders are picked
+ * either by {@code orderIds}, printed in the given order, or, when no ids are
+ * given, by creation time between {@code startDate} and {@code endDate},
+ * printed oldest first.
+ */
+@Value
+@Builder
+@Jacksonized
+public class OrderBatchPrintRequestDto {
+
+    List<Long> orderIds;
+
+    LocalDateTime startDate;
+
+    LocalDateTime endDate;
+}
@@ -0,0 +1,17 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Result of a batch print: the reference numbers printed, in page order, and
+ * the requested order ids that do not exist.
+ */
+@Value
+@Builder
+public class OrderBatchPrintResponseDto {
+    List<String> printed;
+    List<Long> notFound;
+}
@@ -0,0 +1,17 @@
+package com.laundry.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Value
+@Builder
+@Jacksonized
+public class OrderBatchRequestDto {
+
+    @NotEmpty(message = "At least one order is required")
+    List<OrderRequestDto> orders;
+}
@@ -0,0 +1,17 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Value
+@Builder
+@Jacksonized
+public class OrderBatchResponseDto {
+    int requested;
+    int created;
+    int failed;
+    List<OrderBatchItemResultDto> results;
+}
@@ -0,0 +1,35 @@
+package com.laundry.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Advances many orders from {@code fromStatus} to the next status in one call.
+ * Orders are picked either by {@code orderIds} or, when no ids are given, by
+ * the {@code userId} / {@code startDate} / {@code endDate} filter, of which at
+ * least one must be set.
+ * {@code toStatus} is optional and only checked against the workflow.
+ */
+@Value
+@Builder
+@Jacksonized
+public class OrderBulkAdvanceRequestDto {
+
+    @NotBlank(message = "From status is required")
+    String fromStatus;
+
+    String toStatus;
+
+    List<Long> orderIds;
+
+    Long userId;
+
+    LocalDateTime startDate;
+
+    LocalDateTime endDate;
+}
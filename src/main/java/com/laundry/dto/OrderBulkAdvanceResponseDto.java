@@ -0,0 +1,27 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Result of a bulk status advance. {@code hasMore} is only set in filter mode,
+ * when more matching orders remain than one call handles.
+ */
+@Value
+@Builder
+public class OrderBulkAdvanceResponseDto {
+    String fromStatus;
+    String toStatus;
+    List<Long> advanced;
+    List<Skipped> skipped;
+    boolean hasMore;
+
+    @Value
+    @Builder
+    public static class Skipped {
+        Long orderId;
+        String reason;
+    }
+}
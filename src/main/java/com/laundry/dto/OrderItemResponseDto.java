@@ -2,11 +2,13 @@ package com.laundry.dto;
 
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 
 @Value
 @Builder
+@Jacksonized
 public class OrderItemResponseDto {
     Long id;
     Long orderId;
@@ -2,12 +2,14 @@ package com.laundry.dto;
 
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 @Value
 @Builder
+@Jacksonized
 public class OrderResponseDto {
     Long id;
     Long userId;
@@ -19,6 +21,7 @@ public class OrderResponseDto {
     String orderStatus;
     String createdAt;
     String updatedAt;
+    Long version;
 
     List<OrderItemResponseDto> orderItems;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+@Builder
+public class OrderSummaryResponseDto {
+    Long id;
+    Long userId;
+    Long productId;
+    String referenceNo;
+    BigDecimal totalAmount;
+    String currencyCode;
+    String paymentStatus;
+    String orderStatus;
+    String createdAt;
+    String updatedAt;
+}
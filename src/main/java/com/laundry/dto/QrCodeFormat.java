@@ -0,0 +1,41 @@
+package com.laundry.dto;
+
+import com.laundry.exception.BadRequestException;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats of {@code GET /api/qrcode/generate}.
+ * <p>
+ * {@link #MATRIX} is the raw module grid, quiet zone included: one line per
+ * row, {@code 1} for a dark module and {@code 0} for a light one.
+ */
+@Getter
+public enum QrCodeFormat {
+    PNG(MediaType.IMAGE_PNG, "png"),
+    SVG(MediaType.valueOf("image/svg+xml"), "svg"),
+    MATRIX(MediaType.TEXT_PLAIN, "txt");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    QrCodeFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Parses a {@code format} request parameter, case-insensitively.
+     *
+     * @throws BadRequestException if {@code format} is not a supported format
+     */
+    public static QrCodeFormat parse(String format) {
+        for (QrCodeFormat candidate : values()) {
+            if (candidate.name().equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new BadRequestException("Unsupported QR code format: " + format + " (expected png, svg or matrix)");
+    }
+}
@@ -0,0 +1,16 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Encoded QR code as served by {@code GET /api/qrcode/generate}. {@code etag}
+ * is a strong validator derived from {@code body}.
+ */
+@Value
+@Builder
+public class QrCodeImage {
+    QrCodeFormat format;
+    String etag;
+    byte[] body;
+}
@@ -0,0 +1,21 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Everything printed on an order receipt, captured while the order's
+ * associations are still loaded so it can be printed outside the transaction.
+ */
+@Value
+@Builder
+public class ReceiptDto {
+    String referenceNo;
+    Long version;
+    String customerName;
+    String productName;
+    String services;
+    String totalWeight;
+    int totalQuantity;
+    String orderDate;
+}
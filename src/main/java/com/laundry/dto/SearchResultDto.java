@@ -0,0 +1,18 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * One search hit: what it is, its id, and how to show it. Hits are ordered by
+ * {@code score}; an exact word match scores 1 per query word.
+ */
+@Value
+@Builder(toBuilder = true)
+public class SearchResultDto {
+    SearchType type;
+    Long id;
+    String title;
+    String subtitle;
+    double score;
+}
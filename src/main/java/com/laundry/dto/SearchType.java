@@ -0,0 +1,29 @@
+package com.laundry.dto;
+
+import com.laundry.exception.BadRequestException;
+
+/**
+ * Kinds of records the search index covers.
+ */
+public enum SearchType {
+    USER,
+    PRODUCT;
+
+    /**
+     * Parses a {@code type} request parameter, case-insensitively; {@code null}
+     * or blank means all types.
+     *
+     * @throws BadRequestException if {@code type} is not a known type
+     */
+    public static SearchType parse(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        for (SearchType candidate : values()) {
+            if (candidate.name().equalsIgnoreCase(type)) {
+                return candidate;
+            }
+        }
+        throw new BadRequestException("Unsupported search type: " + type + " (expected user or product)");
+    }
+}
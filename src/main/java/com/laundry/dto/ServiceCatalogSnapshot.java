@@ -0,0 +1,17 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Serialized service catalog as served by {@code GET /api/services/catalog}.
+ * {@code body} holds the ready-to-send JSON response and {@code etag} a strong
+ * validator derived from it, so unchanged catalogs can be answered with 304.
+ */
+@Value
+@Builder
+public class ServiceCatalogSnapshot {
+    long version;
+    String etag;
+    byte[] body;
+}
@@ -0,0 +1,16 @@
+package com.laundry.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class UserSummaryResponseDto {
+    Long id;
+    String username;
+    String displayName;
+    String email;
+    String phone;
+    String role;
+    String createdAt;
+}
@@ -0,0 +1,30 @@
+package com.laundry.entity;
+
+/**
+ * Shared settings for the pooled table id generators used by every entity.
+ * <p>
+ * Ids are handed out from the {@value #TABLE} table, one row per entity table
+ * (see {@link PooledTableId}). Each round trip to that table reserves a block
+ * of ids, so new entities get their id in memory and Hibernate can group their
+ * inserts into JDBC batches (which {@code IDENTITY} columns prevent).
+ * <p>
+ * The block size is the {@value #ALLOCATION_SIZE_SETTING} Hibernate setting
+ * ({@code spring.jpa.properties.laundry.id.allocation_size}), by default
+ * {@value #DEFAULT_ALLOCATION_SIZE}. Keep it equal to or larger than
+ * {@code hibernate.jdbc.batch_size} so a full batch never waits on the generator.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+
+    public static final String PK_COLUMN = "entity_name";
+
+    public static final String VALUE_COLUMN = "next_val";
+
+    public static final String ALLOCATION_SIZE_SETTING = "laundry.id.allocation_size";
+
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
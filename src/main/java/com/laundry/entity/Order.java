@@ -1,5 +1,6 @@
 package com.laundry.entity;
 
+import com.laundry.util.ReferenceNoUtil;
 import lombok.*;
 import jakarta.persistence.*;
 
@@ -8,7 +9,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+        uniqueConstraints = @UniqueConstraint(name = "uk_orders_reference_no", columnNames = "reference_no"),
+        indexes = {
+                @Index(name = "idx_orders_reference_no_reversed", columnList = "reference_no_reversed"),
+                @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_orders_user_id_status", columnList = "user_id, status"),
+                @Index(name = "idx_orders_status_created_at", columnList = "status, created_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +24,7 @@ import java.util.List;
 public class Order extends AuditableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("orders")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,6 +38,14 @@ public class Order extends AuditableBaseEntity {
     @Column(name = "reference_no", length = 255)
     private String referenceNo;
 
+    /**
+     * {@link #referenceNo} reversed, kept in sync by {@link #setReferenceNo(String)}.
+     * Lets "ends with" searches run as indexed prefix searches.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "reference_no_reversed", length = 255)
+    private String referenceNoReversed;
+
     @Column(name = "total_amount", nullable = false)
     private BigDecimal totalAmount;
 
@@ -44,6 +60,19 @@ public class Order extends AuditableBaseEntity {
     @Column(name = "payment_status", nullable = false)
     private PaymentStatus paymentStatus;
 
+    /**
+     * Optimistic lock version, incremented on every update. Also exposed to
+     * clients as the order's {@code ETag}.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
+
+    public void setReferenceNo(String referenceNo) {
+        this.referenceNo = referenceNo;
+        this.referenceNoReversed = ReferenceNoUtil.reverse(referenceNo);
+    }
 }
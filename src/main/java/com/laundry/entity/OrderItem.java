@@ -14,7 +14,7 @@ import java.math.BigDecimal;
 public class OrderItem extends AuditableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("order_items")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_payment_history")
+@Table(name = "order_payment_history",
+        indexes = {
+                @Index(name = "idx_order_payment_history_order_id_changed_at", columnList = "order_id, changed_at"),
+                @Index(name = "idx_order_payment_history_changed_at", columnList = "changed_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,7 +18,7 @@ import java.time.LocalDateTime;
 public class OrderPaymentStatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("order_payment_history")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
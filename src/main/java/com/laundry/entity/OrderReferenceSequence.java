@@ -0,0 +1,55 @@
+package com.laundry.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Last daily sequence handed out for order reference numbers of one day (see
+ * {@link com.laundry.util.ReferenceNoUtil}). The row is locked while a range is
+ * reserved, so concurrent creates never draw the same number.
+ * <p>
+ * Rows are always inserted, never merged: two requests creating the first row
+ * of a day at once collide on the primary key and the loser locks the winner's row.
+ */
+@Entity
+@Table(name = "order_reference_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderReferenceSequence implements Persistable<String> {
+
+    /**
+     * The {@code yyMMdd} date prefix of the day.
+     */
+    @Id
+    @Column(name = "date_prefix", length = 6)
+    private String datePrefix;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newSequence = true;
+
+    @Override
+    public String getId() {
+        return datePrefix;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSequence;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSequence = false;
+    }
+}
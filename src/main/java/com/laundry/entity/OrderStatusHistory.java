@@ -9,7 +9,11 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_status_history")
+@Table(name = "order_status_history",
+        indexes = {
+                @Index(name = "idx_order_status_history_order_id_changed_at", columnList = "order_id, changed_at"),
+                @Index(name = "idx_order_status_history_changed_at", columnList = "changed_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +21,7 @@ import java.time.LocalDateTime;
 public class OrderStatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("order_status_history")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,26 @@
+package com.laundry.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the annotated id from the row {@link #value()} of the
+ * {@value IdGenerators#TABLE} table; see {@link IdGenerators}.
+ */
+@IdGeneratorType(PooledTableIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledTableId {
+
+    /**
+     * The row of {@value IdGenerators#TABLE} to draw ids from, by convention
+     * the name of the entity's table.
+     */
+    String value();
+}
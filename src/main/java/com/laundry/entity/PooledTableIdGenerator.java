@@ -0,0 +1,54 @@
+package com.laundry.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * Table generator behind {@link PooledTableId}. Fixes the table and column
+ * names from {@link IdGenerators} and takes the allocation size from the
+ * {@value IdGenerators#ALLOCATION_SIZE_SETTING} setting, so it can be tuned
+ * together with {@code hibernate.jdbc.batch_size} without recompiling.
+ * <p>
+ * Uses the pooled-lo optimizer: the value read from the table is the first id
+ * of the reserved block. Unlike the pooled optimizer, which counts the block
+ * down from that value, this keeps ids unique when the allocation size is
+ * changed on an existing database.
+ */
+public class PooledTableIdGenerator extends TableGenerator implements AnnotationBasedGenerator<PooledTableId> {
+
+    private String segment;
+
+    @Override
+    public void initialize(PooledTableId annotation, Member member, GeneratorCreationContext context) {
+        this.segment = annotation.value();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(IdGenerators.ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER,
+                        IdGenerators.DEFAULT_ALLOCATION_SIZE);
+        if (allocationSize < 1) {
+            throw new MappingException(IdGenerators.ALLOCATION_SIZE_SETTING + " must be at least 1, was " + allocationSize);
+        }
+
+        parameters.setProperty(TABLE_PARAM, IdGenerators.TABLE);
+        parameters.setProperty(SEGMENT_COLUMN_PARAM, IdGenerators.PK_COLUMN);
+        parameters.setProperty(VALUE_COLUMN_PARAM, IdGenerators.VALUE_COLUMN);
+        parameters.setProperty(SEGMENT_VALUE_PARAM, segment);
+        parameters.setProperty(INITIAL_PARAM, "1");
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
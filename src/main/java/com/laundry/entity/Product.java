@@ -2,8 +2,12 @@ package com.laundry.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "products")
 @Getter
 @Setter
@@ -12,7 +16,7 @@ import lombok.*;
 public class Product extends AuditableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("products")
     private Long id;
 
     @Column(name = "name", nullable = false, length = 255)
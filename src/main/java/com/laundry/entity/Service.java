@@ -2,11 +2,15 @@ package com.laundry.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "services")
 @Getter
 @Setter
@@ -15,7 +19,7 @@ import java.util.List;
 public class Service extends AuditableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("services")
     private Long id;
 
     @Column(nullable = false)
@@ -25,6 +29,7 @@ public class Service extends AuditableBaseEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "service", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ServicePrice> servicePrices = new ArrayList<>();
 
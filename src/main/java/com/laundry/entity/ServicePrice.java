@@ -2,11 +2,17 @@ package com.laundry.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "service_prices")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "service_prices",
+        uniqueConstraints = @UniqueConstraint(name = "uk_service_prices_service_id_currency_code",
+                columnNames = {"service_id", "currency_code"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,7 +20,7 @@ import java.math.BigDecimal;
 public class ServicePrice extends AuditableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("service_prices")
     private Long id;
 
     @ManyToOne
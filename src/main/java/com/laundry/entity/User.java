@@ -8,7 +8,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_users_username", columnNames = "username"),
+                @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+        },
+        indexes = {
+                @Index(name = "idx_users_reset_token", columnList = "reset_token"),
+                @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_users_role_created_at", columnList = "role, created_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,7 +25,7 @@ import java.util.List;
 public class User extends AuditableBaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("users")
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,15 @@
+package com.laundry.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+public class ConflictException extends ApiBaseException {
+    public ConflictException(String reason, List<ErrorDetail> errors) {
+        super(HttpStatus.CONFLICT, reason, errors);
+    }
+
+    public ConflictException(String reason) {
+        this(reason, null);
+    }
+}
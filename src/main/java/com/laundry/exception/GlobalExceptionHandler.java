@@ -4,6 +4,7 @@ import com.laundry.util.Format;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
@@ -59,6 +60,31 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, mainMessage, errors, traceId);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        String traceId = MDC.get("traceId");
+        List<ErrorDetail> errors = List.of(
+                new ErrorDetail("CONCURRENT_MODIFICATION", "The resource was changed by another request", "")
+        );
+        log.warn("OptimisticLockingFailureException caught. traceId={}, message={}", traceId, ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT,
+                "The resource was modified concurrently; reload it and try again", errors, traceId);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException ex) {
+        String traceId = MDC.get("traceId");
+        log.warn("ConflictException caught. traceId={}, message={}", traceId, ex.getMessage());
+        return buildErrorResponse(ex.getStatus(), ex.getMessage(), ex.getErrors(), traceId);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        String traceId = MDC.get("traceId");
+        log.warn("PreconditionFailedException caught. traceId={}, message={}", traceId, ex.getMessage());
+        return buildErrorResponse(ex.getStatus(), ex.getMessage(), ex.getErrors(), traceId);
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
         String traceId = MDC.get("traceId");
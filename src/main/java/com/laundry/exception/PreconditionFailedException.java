@@ -0,0 +1,15 @@
+package com.laundry.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+public class PreconditionFailedException extends ApiBaseException {
+    public PreconditionFailedException(String reason, List<ErrorDetail> errors) {
+        super(HttpStatus.PRECONDITION_FAILED, reason, errors);
+    }
+
+    public PreconditionFailedException(String reason) {
+        this(reason, null);
+    }
+}
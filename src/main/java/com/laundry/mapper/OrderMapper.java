@@ -3,7 +3,9 @@ package com.laundry.mapper;
 import com.laundry.dto.OrderItemResponseDto;
 import com.laundry.dto.OrderRequestDto;
 import com.laundry.dto.OrderResponseDto;
+import com.laundry.dto.OrderSummaryResponseDto;
 import com.laundry.entity.*;
+import com.laundry.repository.projection.OrderSummaryView;
 import com.laundry.util.OrderUtil;
 
 import java.util.List;
@@ -34,10 +36,22 @@ public class OrderMapper {
         if (entity == null) {
             return null;
         }
+        return toResponseDto(entity, entity.getOrderItems());
+    }
+
+    /**
+     * Maps an order using an already loaded list of its items instead of the
+     * lazy {@code orderItems} collection, so a page of orders can be mapped
+     * from a single batched item query.
+     */
+    public static OrderResponseDto toResponseDto(Order entity, List<OrderItem> items) {
+        if (entity == null) {
+            return null;
+        }
 
         List<OrderItemResponseDto> itemDtos = null;
-        if (entity.getOrderItems() != null && !entity.getOrderItems().isEmpty()) {
-            itemDtos = entity.getOrderItems().stream()
+        if (items != null && !items.isEmpty()) {
+            itemDtos = items.stream()
                     .map(OrderItemMapper::toResponseDto)
                     .toList();
         }
@@ -57,7 +71,31 @@ public class OrderMapper {
                         : null)
                 .createdAt(formatLocalDateTime(entity.getCreatedAt()))
                 .updatedAt(formatLocalDateTime(entity.getUpdatedAt()))
+                .version(entity.getVersion())
                 .orderItems(itemDtos)
                 .build();
     }
+
+    public static OrderSummaryResponseDto toSummaryDto(OrderSummaryView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return OrderSummaryResponseDto.builder()
+                .id(view.getId())
+                .userId(view.getUserId())
+                .productId(view.getProductId())
+                .referenceNo(view.getReferenceNo())
+                .totalAmount(view.getTotalAmount())
+                .currencyCode(view.getCurrencyCode())
+                .paymentStatus(view.getPaymentStatus() != null
+                        ? view.getPaymentStatus().name()
+                        : null)
+                .orderStatus(view.getStatus() != null
+                        ? view.getStatus().name()
+                        : null)
+                .createdAt(formatLocalDateTime(view.getCreatedAt()))
+                .updatedAt(formatLocalDateTime(view.getUpdatedAt()))
+                .build();
+    }
 }
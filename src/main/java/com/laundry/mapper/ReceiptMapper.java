@@ -0,0 +1,36 @@
+package com.laundry.mapper;
+
+import com.laundry.dto.ReceiptDto;
+import com.laundry.entity.Order;
+import com.laundry.entity.OrderItem;
+
+import java.math.BigDecimal;
+import java.util.stream.Collectors;
+
+public class ReceiptMapper {
+
+    public static ReceiptDto toReceipt(Order order) {
+        if (order == null) {
+            return null;
+        }
+
+        return ReceiptDto.builder()
+                .referenceNo(order.getReferenceNo())
+                .version(order.getVersion())
+                .customerName(order.getUser().getDisplayName())
+                .productName(order.getProduct().getName())
+                .services(order.getOrderItems().stream()
+                        .map(item -> item.getService().getName())
+                        .distinct()
+                        .collect(Collectors.joining(", ")))
+                .totalWeight(order.getOrderItems().stream()
+                        .map(OrderItem::getWeight)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add)
+                        .toPlainString())
+                .totalQuantity(order.getOrderItems().stream()
+                        .mapToInt(OrderItem::getQuantity)
+                        .sum())
+                .orderDate(order.getCreatedAt().toString())
+                .build();
+    }
+}
@@ -2,7 +2,9 @@ package com.laundry.mapper;
 
 import com.laundry.dto.UserRequestDto;
 import com.laundry.dto.UserResponseDto;
+import com.laundry.dto.UserSummaryResponseDto;
 import com.laundry.entity.User;
+import com.laundry.repository.projection.UserSummaryView;
 
 import static com.laundry.util.DateTimeUtil.formatLocalDateTime;
 
@@ -41,4 +43,20 @@ public class UserMapper {
                 .updatedAt(formatLocalDateTime(entity.getUpdatedAt()))
                 .build();
     }
+
+    public static UserSummaryResponseDto toSummaryDto(UserSummaryView view) {
+        if (view == null) {
+            return null;
+        }
+
+        return UserSummaryResponseDto.builder()
+                .id(view.getId())
+                .username(view.getUsername())
+                .displayName(view.getDisplayName())
+                .email(view.getEmail())
+                .phone(view.getPhone())
+                .role(view.getRole())
+                .createdAt(formatLocalDateTime(view.getCreatedAt()))
+                .build();
+    }
 }
@@ -0,0 +1,56 @@
+package com.laundry.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares: in total as
+ * {@code jdbc.statements}, and for the request being handled on the current
+ * thread between {@link #start()} and {@link #stop()}. Installed as Hibernate's
+ * {@link StatementInspector}; the SQL itself is passed through unchanged.
+ * <p>
+ * A JDBC batch counts once, however many rows it sends.
+ */
+@Component
+public class JdbcStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private final Counter total;
+
+    public JdbcStatementCounter(MeterRegistry meterRegistry) {
+        this.total = Counter.builder("jdbc.statements")
+                .description("SQL statements prepared by Hibernate")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        total.increment();
+        int[] current = CURRENT.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     */
+    public void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return the statements prepared since {@link #start()}, 0 if it was not called
+     */
+    public int stop() {
+        int[] current = CURRENT.get();
+        CURRENT.remove();
+        return current == null ? 0 : current[0];
+    }
+}
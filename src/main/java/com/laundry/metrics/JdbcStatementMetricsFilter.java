@@ -0,0 +1,76 @@
+package com.laundry.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran, as
+ * {@code http.server.requests.jdbc.statements} tagged with the method and
+ * URI pattern like {@code http.server.requests}. Runs just inside the
+ * observation filter that times requests and ahead of the security filters,
+ * so that the user lookup of authentication is counted too.
+ * Statements run on other threads, e.g. by the receipt printer, are not.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class JdbcStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final JdbcStatementCounter statementCounter;
+
+    private final MeterRegistry meterRegistry;
+
+    public JdbcStatementMetricsFilter(JdbcStatementCounter statementCounter, MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        statementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.stop();
+            DistributionSummary.builder("http.server.requests.jdbc.statements")
+                    .description("SQL statements per HTTP request")
+                    .tags("method", request.getMethod(), "uri", uriPattern(request))
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1000.0)
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    /**
+     * The URI pattern {@code http.server.requests} is tagged with; it is also
+     * known for requests that the security filters reject.
+     */
+    private static String uriPattern(HttpServletRequest request) {
+        String pattern = ServerHttpObservationFilter.findObservationContext(request)
+                .map(ServerRequestObservationContext::getPathPattern)
+                .orElse(null);
+        if (pattern == null) {
+            Object bestMatching = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            pattern = bestMatching != null ? bestMatching.toString() : UNKNOWN_URI;
+        }
+        return pattern;
+    }
+}
@@ -0,0 +1,56 @@
+package com.laundry.receipt;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.font.FontRenderContext;
+
+/**
+ * Advance widths of the characters of one font, measured once.
+ * <p>
+ * Widths are summed as {@code float} and rounded the way
+ * {@link FontMetrics#stringWidth(String)} does for simple text, so
+ * {@link #width(CharSequence)} matches it without creating strings. Latin-1
+ * and Latin Extended-A (which covers Turkish) are cached; other characters
+ * are measured on demand.
+ */
+final class GlyphAdvances {
+
+    private static final int CACHED_CHARS = 0x180;
+
+    private final Font font;
+
+    private final FontRenderContext renderContext;
+
+    private final float[] advances = new float[CACHED_CHARS];
+
+    GlyphAdvances(FontMetrics metrics) {
+        this.font = metrics.getFont();
+        this.renderContext = metrics.getFontRenderContext();
+        for (char c = 0; c < CACHED_CHARS; c++) {
+            advances[c] = measure(c);
+        }
+    }
+
+    float advance(char c) {
+        return c < CACHED_CHARS ? advances[c] : measure(c);
+    }
+
+    int width(CharSequence text) {
+        float advance = 0;
+        for (int i = 0; i < text.length(); i++) {
+            advance += advance(text.charAt(i));
+        }
+        return round(advance);
+    }
+
+    /**
+     * Rounds a summed advance to pixels, like {@link FontMetrics#stringWidth(String)}.
+     */
+    static int round(float advance) {
+        return (int) (0.5 + advance);
+    }
+
+    private float measure(char c) {
+        return (float) font.getStringBounds(String.valueOf(c), renderContext).getWidth();
+    }
+}
@@ -0,0 +1,84 @@
+package com.laundry.receipt;
+
+import com.laundry.dto.ReceiptDto;
+import com.laundry.util.TurkishCharacterUtil;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * What a receipt says, independent of how it is printed: the rows of the
+ * order table and the text of the QR code. Shared by the label layout and the
+ * ESC/POS text encoder so both print the same content.
+ */
+public final class ReceiptContent {
+
+    public static final String SERVICES_HEADER = "Servisler:";
+
+    /**
+     * Row headers of the order table, in print order.
+     */
+    public static final List<String> HEADERS = List.of(
+            "Satıcı:", "Müşteri:", "Ürün:", SERVICES_HEADER, "Ağırlık (GR):",
+            "Parça sayısı:", "Referans Numarası:", "Sipariş Tarihi:"
+    );
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private ReceiptContent() {
+    }
+
+    /**
+     * Returns the value of every table row, aligned with {@link #HEADERS}.
+     * Missing values, such as the name of a user without a display name, are
+     * empty strings.
+     */
+    public static String[] values(ReceiptDto receipt, String companyName) {
+        return new String[]{
+                Objects.toString(companyName, ""),
+                Objects.toString(receipt.getCustomerName(), ""),
+                Objects.toString(receipt.getProductName(), ""),
+                Objects.toString(receipt.getServices(), ""),
+                Objects.toString(formatWeight(receipt.getTotalWeight()), ""),
+                String.valueOf(receipt.getTotalQuantity()),
+                Objects.toString(receipt.getReferenceNo(), ""),
+                LocalDateTime.parse(receipt.getOrderDate()).format(DATE_FORMAT)
+        };
+    }
+
+    /**
+     * Text encoded in the receipt's QR code: one "header value" line per table
+     * row, transliterated to ASCII for scanners without Turkish support.
+     *
+     * @param values the row values returned by {@link #values(ReceiptDto, String)}
+     */
+    public static String qrData(String[] values) {
+        StringBuilder data = new StringBuilder();
+        for (int row = 0; row < HEADERS.size(); row++) {
+            if (row > 0) {
+                data.append('\n');
+            }
+            data.append(TurkishCharacterUtil.convertTurkishCharacters(HEADERS.get(row) + " " + values[row]));
+        }
+        return data.toString();
+    }
+
+    /**
+     * Formats a weight in grams, adding the approximate kilograms from 1000 g
+     * upwards, e.g. {@code 2,500     (~2.5 kg)}. Non-integer input is returned as is.
+     */
+    static String formatWeight(String weightGr) {
+        try {
+            long weightVal = Long.parseLong(weightGr);
+            if (weightVal >= 1000) {
+                String weightWithComma = String.format("%,d", weightVal);
+                String kgStr = String.format("%.1f", weightVal / 1000.0);
+                return weightWithComma + "     (~" + kgStr + " kg)";
+            }
+        } catch (NumberFormatException _) {
+        }
+        return weightGr;
+    }
+}
@@ -0,0 +1,77 @@
+package com.laundry.receipt;
+
+import com.google.zxing.WriterException;
+import com.laundry.dto.ReceiptDto;
+
+import java.awt.print.PrinterException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A receipt ready to be printed: its data, for sinks that format the receipt
+ * themselves, and its layout, for sinks that draw it.
+ * <p>
+ * The layout is built on first use, so sinks that only need the data, such
+ * as ESC/POS text printers, never pay for text measurement or the QR code
+ * matrix. It is built at most once per document.
+ */
+public final class ReceiptDocument {
+
+    /**
+     * Builds the layout of a receipt, e.g. {@link ReceiptLayoutEngine#layout(ReceiptDto)}.
+     */
+    @FunctionalInterface
+    public interface Layouter {
+
+        ReceiptLayout layout(ReceiptDto receipt) throws WriterException;
+    }
+
+    private final ReceiptDto receipt;
+
+    private final Layouter layouter;
+
+    private volatile ReceiptLayout layout;
+
+    public ReceiptDocument(ReceiptDto receipt, Layouter layouter) {
+        this.receipt = receipt;
+        this.layouter = layouter;
+    }
+
+    public ReceiptDto receipt() {
+        return receipt;
+    }
+
+    /**
+     * Returns the layout, building it on the first call.
+     *
+     * @throws PrinterException if the receipt cannot be laid out, e.g. its QR code cannot be encoded
+     */
+    public ReceiptLayout layout() throws PrinterException {
+        ReceiptLayout result = layout;
+        if (result == null) {
+            try {
+                result = layouter.layout(receipt);
+            } catch (WriterException e) {
+                PrinterException failure = new PrinterException(
+                        "Cannot lay out receipt " + receipt.getReferenceNo() + ": " + e.getMessage());
+                failure.initCause(e);
+                throw failure;
+            }
+            layout = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the layouts of {@code documents}, in order.
+     *
+     * @throws PrinterException if one of them cannot be laid out
+     */
+    public static List<ReceiptLayout> layouts(List<ReceiptDocument> documents) throws PrinterException {
+        List<ReceiptLayout> layouts = new ArrayList<>(documents.size());
+        for (ReceiptDocument document : documents) {
+            layouts.add(document.layout());
+        }
+        return layouts;
+    }
+}
@@ -0,0 +1,29 @@
+package com.laundry.receipt;
+
+import com.google.zxing.common.BitMatrix;
+
+import java.awt.Font;
+
+/**
+ * One drawing operation of a {@link ReceiptLayout}. Coordinates are in points
+ * (1/72 inch) relative to the top-left corner of the printable area; text is
+ * positioned by its baseline.
+ */
+public sealed interface ReceiptElement {
+
+    record Text(String text, int x, int y, Font font) implements ReceiptElement {
+    }
+
+    /**
+     * A rectangle outline, e.g. a table cell border.
+     */
+    record Box(int x, int y, int width, int height) implements ReceiptElement {
+    }
+
+    /**
+     * A QR code whose modules, quiet zone included, are scaled to fill a
+     * {@code size} x {@code size} square.
+     */
+    record QrCode(BitMatrix matrix, int x, int y, int size) implements ReceiptElement {
+    }
+}
@@ -0,0 +1,37 @@
+package com.laundry.receipt;
+
+import com.laundry.exception.BadRequestException;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * Digital formats a receipt can be rendered to.
+ */
+@Getter
+public enum ReceiptFormat {
+    PNG(MediaType.IMAGE_PNG, "png"),
+    PDF(MediaType.APPLICATION_PDF, "pdf");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    ReceiptFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Parses a {@code format} request parameter, case-insensitively.
+     *
+     * @throws BadRequestException if {@code format} is not a supported format
+     */
+    public static ReceiptFormat parse(String format) {
+        for (ReceiptFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new BadRequestException("Unsupported receipt format: " + format + " (expected png or pdf)");
+    }
+}
@@ -0,0 +1,32 @@
+package com.laundry.receipt;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A receipt laid out once, independent of the output device. The same layout
+ * is drawn by {@link ReceiptRenderer} onto a printer page, a PNG or a PDF, so
+ * fonts, text measurement and wrapping are only done when the layout is built.
+ * <p>
+ * Layouts are immutable and may be shared between threads.
+ */
+@Value
+@Builder
+public class ReceiptLayout {
+
+    /**
+     * Width of the printable area in points.
+     */
+    int width;
+
+    /**
+     * Height of the printable area in points.
+     */
+    int height;
+
+    @Singular
+    List<ReceiptElement> elements;
+}
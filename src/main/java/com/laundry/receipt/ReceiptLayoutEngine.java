@@ -0,0 +1,299 @@
+package com.laundry.receipt;
+
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.laundry.dto.ReceiptDto;
+import com.laundry.service.impl.QrCodeGeneratorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lays out the 5 x 8 cm landscape order receipt: a two-column table with the
+ * order details, then the QR code and reference number next to the company
+ * name and slogan.
+ * <p>
+ * Fonts, their metrics and everything that only depends on the company name
+ * and the fixed row headers are computed once at startup. Metrics come from an
+ * offscreen image, so layout works with {@code java.awt.headless=true}.
+ */
+@Component
+public class ReceiptLayoutEngine {
+
+    private static final double POINTS_PER_CM = 28.35;
+
+    /**
+     * Printable area of the label in landscape: 8 x 5 cm minus a 2 pt border on each side.
+     */
+    public static final int PAGE_WIDTH = (int) (8 * POINTS_PER_CM - 4);
+
+    public static final int PAGE_HEIGHT = (int) (5 * POINTS_PER_CM - 4);
+
+    private static final int TOP_OFFSET = (int) (0.5 * POINTS_PER_CM);
+
+    private static final int QR_GAP = (int) (0.2 * POINTS_PER_CM);
+
+    private static final int SIDE_MARGIN = 5;
+
+    private static final int CELL_PADDING = 3;
+
+    private static final int VERTICAL_SPACING = 2;
+
+    /**
+     * Quiet zone around the QR code, in modules.
+     */
+    private static final int QR_MARGIN = 3;
+
+    private static final Font SMALL_FONT = new Font("Arial", Font.PLAIN, 7);
+
+    private final QrCodeGeneratorService qrCodeGeneratorService;
+
+    private final String companyName;
+
+    private final String companySlogan;
+
+    private final GlyphAdvances smallAdvances;
+
+    private final int lineHeight;
+
+    private final int ascent;
+
+    private final float ellipsisAdvance;
+
+    private final Font brandFont;
+
+    private final Font sloganFont;
+
+    private final int headerColumnWidth;
+
+    private final int valueColumnWidth;
+
+    /**
+     * Position of the company name and slogan, relative to the top of the QR code.
+     */
+    private final int companyX;
+
+    private final int companyOffsetY;
+
+    private final int sloganX;
+
+    private final int sloganOffsetY;
+
+    public ReceiptLayoutEngine(QrCodeGeneratorService qrCodeGeneratorService,
+                               @Value("${app.company.name}") String companyName,
+                               @Value("${app.company.slogan}") String companySlogan) {
+        this.qrCodeGeneratorService = qrCodeGeneratorService;
+        this.companyName = companyName;
+        this.companySlogan = companySlogan;
+
+        Graphics2D g2d = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB).createGraphics();
+        try {
+            FontMetrics smallMetrics = g2d.getFontMetrics(SMALL_FONT);
+            this.smallAdvances = new GlyphAdvances(smallMetrics);
+            this.lineHeight = smallMetrics.getHeight();
+            this.ascent = smallMetrics.getAscent();
+            this.ellipsisAdvance = 3 * smallAdvances.advance('.');
+
+            int maxHeaderWidth = 0;
+            for (String header : ReceiptContent.HEADERS) {
+                maxHeaderWidth = Math.max(maxHeaderWidth, smallMetrics.stringWidth(header));
+            }
+            int tableWidth = PAGE_WIDTH - 2 * SIDE_MARGIN;
+            this.headerColumnWidth = maxHeaderWidth + 2 * CELL_PADDING;
+            this.valueColumnWidth = tableWidth - headerColumnWidth;
+
+            this.brandFont = fitToWidth(g2d, new Font("Arial", Font.BOLD, 14), companyName, valueColumnWidth);
+            FontMetrics brandMetrics = g2d.getFontMetrics(brandFont);
+            this.sloganFont = fitToWidth(g2d, new Font("Arial", Font.PLAIN, 13), companySlogan, valueColumnWidth);
+            FontMetrics sloganMetrics = g2d.getFontMetrics(sloganFont);
+
+            int rightLowerX = SIDE_MARGIN + headerColumnWidth;
+            int totalBrandHeight = brandMetrics.getHeight() + sloganMetrics.getHeight() + 2;
+            this.companyX = rightLowerX + (valueColumnWidth - brandMetrics.stringWidth(companyName)) / 2;
+            this.companyOffsetY = (qrSize() - totalBrandHeight) / 2 + brandMetrics.getAscent();
+            this.sloganX = rightLowerX + (valueColumnWidth - sloganMetrics.stringWidth(companySlogan)) / 2;
+            this.sloganOffsetY = companyOffsetY + brandMetrics.getHeight() + 2;
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    /**
+     * Lays out {@code receipt}. The result does not depend on any output
+     * device and can be rendered any number of times.
+     *
+     * @throws WriterException if the QR code cannot be encoded
+     */
+    public ReceiptLayout layout(ReceiptDto receipt) throws WriterException {
+        String[] values = ReceiptContent.values(receipt, companyName);
+
+        ReceiptLayout.ReceiptLayoutBuilder layout = ReceiptLayout.builder()
+                .width(PAGE_WIDTH)
+                .height(PAGE_HEIGHT);
+
+        int tableX = SIDE_MARGIN;
+        int currentY = TOP_OFFSET;
+        for (int row = 0; row < ReceiptContent.HEADERS.size(); row++) {
+            String header = ReceiptContent.HEADERS.get(row);
+            int allowedMaxLines = header.equals(ReceiptContent.SERVICES_HEADER) ? 2 : 1;
+            List<String> wrappedValue = wrapTextLimited(values[row], valueColumnWidth - 2 * CELL_PADDING, allowedMaxLines);
+            int numLines = wrappedValue.size();
+            int valueBlockHeight = numLines * lineHeight + (numLines - 1) * VERTICAL_SPACING;
+            int rowHeight = Math.max(lineHeight, valueBlockHeight);
+
+            int headerY = currentY + (rowHeight - lineHeight) / 2 + ascent;
+            int valueY = currentY + (rowHeight - valueBlockHeight) / 2 + ascent;
+
+            layout.element(new ReceiptElement.Box(tableX, currentY, headerColumnWidth, rowHeight));
+            layout.element(new ReceiptElement.Box(tableX + headerColumnWidth, currentY, valueColumnWidth, rowHeight));
+
+            layout.element(new ReceiptElement.Text(header, tableX + CELL_PADDING, headerY, SMALL_FONT));
+            int valueX = tableX + headerColumnWidth + CELL_PADDING;
+            for (String line : wrappedValue) {
+                layout.element(new ReceiptElement.Text(line, valueX, valueY, SMALL_FONT));
+                valueY += lineHeight + VERTICAL_SPACING;
+            }
+            currentY += rowHeight;
+        }
+
+        int newCellY = currentY + QR_GAP;
+
+        BitMatrix qrMatrix = qrCodeGeneratorService.generateQRCodeMatrix(ReceiptContent.qrData(values), QR_MARGIN);
+        int desiredQRSize = qrSize();
+        int qrX = tableX + (headerColumnWidth - desiredQRSize) / 2;
+        layout.element(new ReceiptElement.QrCode(qrMatrix, qrX, newCellY, desiredQRSize));
+
+        String referenceNo = receipt.getReferenceNo();
+        int refX = tableX + (headerColumnWidth - smallAdvances.width(referenceNo)) / 2;
+        int refY = newCellY + desiredQRSize + ascent;
+        layout.element(new ReceiptElement.Text(referenceNo, refX, refY, SMALL_FONT));
+
+        layout.element(new ReceiptElement.Text(companyName, companyX, newCellY + companyOffsetY, brandFont));
+        layout.element(new ReceiptElement.Text(companySlogan, sloganX, newCellY + sloganOffsetY, sloganFont));
+
+        return layout.build();
+    }
+
+    /**
+     * Returns {@code font}, shrunk proportionally if {@code text} would be wider than {@code maxWidth}.
+     */
+    private static Font fitToWidth(Graphics2D g2d, Font font, String text, int maxWidth) {
+        int width = g2d.getFontMetrics(font).stringWidth(text);
+        if (width > maxWidth) {
+            return font.deriveFont(font.getSize2D() * maxWidth / width);
+        }
+        return font;
+    }
+
+    private int qrSize() {
+        return Math.min(headerColumnWidth - 4, 40);
+    }
+
+    /**
+     * Breaks {@code text} into at most {@code maxLines} lines of at most
+     * {@code maxWidth} pixels, at whitespace, in one pass over the text. Words
+     * are joined by single spaces; a word wider than a line is broken where it
+     * stops fitting. If text remains after the last line, that line is cut
+     * with a binary search so that it fits with a trailing {@code "..."}.
+     */
+    private List<String> wrapTextLimited(String text, int maxWidth, int maxLines) {
+        List<String> lines = new ArrayList<>(maxLines);
+        if (text == null || text.isEmpty()) {
+            lines.add("");
+            return lines;
+        }
+        int length = text.length();
+        float spaceAdvance = smallAdvances.advance(' ');
+
+        StringBuilder line = new StringBuilder();
+        float lineAdvance = 0;
+        boolean truncated = false;
+        int i = 0;
+        while (true) {
+            while (i < length && isSeparator(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            if (lines.size() == maxLines) {
+                truncated = true;
+                break;
+            }
+
+            int wordStart = i;
+            float advance = line.isEmpty() ? lineAdvance : lineAdvance + spaceAdvance;
+            boolean fits = true;
+            while (i < length && !isSeparator(text.charAt(i))) {
+                advance += smallAdvances.advance(text.charAt(i));
+                if (GlyphAdvances.round(advance) > maxWidth) {
+                    fits = false;
+                    break;
+                }
+                i++;
+            }
+
+            if (fits) {
+                if (!line.isEmpty()) {
+                    line.append(' ');
+                }
+                line.append(text, wordStart, i);
+                lineAdvance = advance;
+                continue;
+            }
+            if (line.isEmpty()) {
+                // The word alone is wider than a line: keep what fits (at least one character).
+                i = Math.max(i, wordStart + 1);
+                line.append(text, wordStart, i);
+            } else {
+                i = wordStart;
+            }
+            lines.add(line.toString());
+            line.setLength(0);
+            lineAdvance = 0;
+        }
+        if (!line.isEmpty() || lines.isEmpty()) {
+            lines.add(line.toString());
+        }
+
+        if (truncated) {
+            lines.set(lines.size() - 1, withEllipsis(lines.getLast(), maxWidth));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the longest prefix of {@code line} that fits in {@code maxWidth}
+     * together with {@code "..."}, followed by {@code "..."}.
+     */
+    private String withEllipsis(String line, int maxWidth) {
+        float[] prefixAdvance = new float[line.length() + 1];
+        for (int i = 0; i < line.length(); i++) {
+            prefixAdvance[i + 1] = prefixAdvance[i] + smallAdvances.advance(line.charAt(i));
+        }
+        int low = 0;
+        int high = line.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (GlyphAdvances.round(prefixAdvance[mid] + ellipsisAdvance) <= maxWidth) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return line.substring(0, low) + "...";
+    }
+
+    /**
+     * Whitespace as matched by the regex {@code \s}.
+     */
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,220 @@
+package com.laundry.receipt;
+
+import com.google.zxing.common.BitMatrix;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.print.PrintService;
+import javax.print.attribute.HashPrintRequestAttributeSet;
+import javax.print.attribute.PrintRequestAttributeSet;
+import javax.print.attribute.standard.MediaPrintableArea;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.print.Book;
+import java.awt.print.PageFormat;
+import java.awt.print.Paper;
+import java.awt.print.Printable;
+import java.awt.print.PrinterException;
+import java.awt.print.PrinterJob;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Draws a {@link ReceiptLayout} onto a printer, a PNG image or a PDF page.
+ * <p>
+ * PNG and PDF are rendered offscreen and work with {@code java.awt.headless=true}.
+ * The PDF embeds the receipt as a lossless {@value #DPI} dpi image, so it looks
+ * exactly like the PNG and the printout without depending on font files.
+ */
+@Component
+public class ReceiptRenderer {
+
+    /**
+     * Resolution of PNG and PDF output.
+     */
+    public static final int DPI = 300;
+
+    public static final double POINTS_PER_INCH = 72.0;
+
+    private static final double POINTS_PER_CM = 28.35;
+
+    /**
+     * Draws every element of {@code layout} with its origin at the current
+     * origin of {@code g2d}.
+     */
+    public void draw(Graphics2D g2d, ReceiptLayout layout) {
+        for (ReceiptElement element : layout.getElements()) {
+            switch (element) {
+                case ReceiptElement.Text text -> {
+                    g2d.setFont(text.font());
+                    g2d.drawString(text.text(), text.x(), text.y());
+                }
+                case ReceiptElement.Box box -> g2d.drawRect(box.x(), box.y(), box.width(), box.height());
+                case ReceiptElement.QrCode qrCode -> fillModules(g2d, qrCode);
+            }
+        }
+    }
+
+    /**
+     * Fills each horizontal run of dark modules with one rectangle, in a
+     * coordinate system where a module is one unit, so the code is drawn at
+     * device resolution without an intermediate image.
+     */
+    private static void fillModules(Graphics2D g2d, ReceiptElement.QrCode qrCode) {
+        BitMatrix matrix = qrCode.matrix();
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+
+        AffineTransform saved = g2d.getTransform();
+        try {
+            g2d.translate(qrCode.x(), qrCode.y());
+            g2d.scale((double) qrCode.size() / width, (double) qrCode.size() / height);
+            for (int y = 0; y < height; y++) {
+                int x = 0;
+                while (x < width) {
+                    if (!matrix.get(x, y)) {
+                        x++;
+                        continue;
+                    }
+                    int runStart = x;
+                    while (x < width && matrix.get(x, y)) {
+                        x++;
+                    }
+                    g2d.fillRect(runStart, y, x - runStart, 1);
+                }
+            }
+        } finally {
+            g2d.setTransform(saved);
+        }
+    }
+
+    /**
+     * Renders {@code layout} to a grayscale image at {@value #DPI} dpi on a white background.
+     */
+    public BufferedImage toImage(ReceiptLayout layout) {
+        return toImage(layout, DPI);
+    }
+
+    /**
+     * Renders {@code layout} to a grayscale image at {@code dpi} on a white background.
+     */
+    public BufferedImage toImage(ReceiptLayout layout, double dpi) {
+        double scale = dpi / POINTS_PER_INCH;
+        int width = (int) Math.ceil(layout.getWidth() * scale);
+        int height = (int) Math.ceil(layout.getHeight() * scale);
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setColor(Color.WHITE);
+            g2d.fillRect(0, 0, width, height);
+            g2d.setColor(Color.BLACK);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.scale(scale, scale);
+            draw(g2d, layout);
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    public byte[] toPng(ReceiptLayout layout) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(toImage(layout), "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Renders {@code layout} as a single-page PDF whose page is the size of the receipt.
+     */
+    public byte[] toPdf(ReceiptLayout layout) throws IOException {
+        return toPdf(List.of(layout));
+    }
+
+    /**
+     * Renders {@code layouts} as a PDF with one page per receipt, each page the
+     * size of its receipt.
+     */
+    public byte[] toPdf(List<ReceiptLayout> layouts) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (ReceiptLayout layout : layouts) {
+                PDRectangle pageSize = new PDRectangle(layout.getWidth(), layout.getHeight());
+                PDPage page = new PDPage(pageSize);
+                document.addPage(page);
+
+                PDImageXObject image = LosslessFactory.createFromImage(document, toImage(layout));
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.drawImage(image, 0, 0, pageSize.getWidth(), pageSize.getHeight());
+                }
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    public byte[] render(ReceiptLayout layout, ReceiptFormat format) throws IOException {
+        return switch (format) {
+            case PNG -> toPng(layout);
+            case PDF -> toPdf(layout);
+        };
+    }
+
+    /**
+     * Prints {@code layout} on the default printer, landscape on a 5 x 8 cm label.
+     */
+    public void print(ReceiptLayout layout) throws PrinterException {
+        print(List.of(layout), null);
+    }
+
+    /**
+     * Prints {@code layouts} as the pages of a single print job, one label per
+     * receipt, so the printer is opened and spooled once for the whole batch.
+     * Pages are drawn as the print service asks for them.
+     *
+     * @param printService the printer to use, or {@code null} for the system default printer
+     */
+    public void print(List<ReceiptLayout> layouts, PrintService printService) throws PrinterException {
+        if (layouts.isEmpty()) {
+            return;
+        }
+        PrinterJob printerJob = PrinterJob.getPrinterJob();
+        if (printService != null) {
+            printerJob.setPrintService(printService);
+        }
+        PageFormat pageFormat = printerJob.defaultPage();
+        Paper paper = new Paper();
+        double paperWidth = 5 * POINTS_PER_CM;
+        double paperHeight = 8 * POINTS_PER_CM;
+        paper.setImageableArea(2, 2, paperWidth - 4, paperHeight - 4);
+        paper.setSize(paperWidth, paperHeight);
+        pageFormat.setPaper(paper);
+        pageFormat.setOrientation(PageFormat.LANDSCAPE);
+
+        Book book = new Book();
+        for (ReceiptLayout layout : layouts) {
+            book.append((graphics, pf, pageIndex) -> {
+                Graphics2D g2d = (Graphics2D) graphics;
+                g2d.translate(pf.getImageableX(), pf.getImageableY());
+                draw(g2d, layout);
+                return Printable.PAGE_EXISTS;
+            }, pageFormat);
+        }
+        printerJob.setPageable(book);
+
+        PrintRequestAttributeSet aset = new HashPrintRequestAttributeSet();
+        aset.add(new MediaPrintableArea(0, 0, 500, 800, MediaPrintableArea.MM));
+        printerJob.print(aset);
+    }
+}
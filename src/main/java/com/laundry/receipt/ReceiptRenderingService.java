@@ -0,0 +1,150 @@
+package com.laundry.receipt;
+
+import com.google.zxing.WriterException;
+import com.laundry.dto.ReceiptDto;
+import com.laundry.receipt.sink.ReceiptSinkRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.print.PrinterException;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lays out, renders and prints order receipts, caching both the layout and
+ * the rendered bytes.
+ * <p>
+ * Entries are keyed by the receipt's content: everything printed on it, not
+ * just the order version. Renaming the customer or product, or changing an
+ * item, changes the receipt without touching the order's version, and must
+ * still produce a new receipt. Entries of old content age out of the LRU.
+ */
+@Service
+public class ReceiptRenderingService {
+
+    private record RenderKey(ReceiptDto receipt, ReceiptFormat format) {
+    }
+
+    private final ReceiptLayoutEngine layoutEngine;
+
+    private final ReceiptRenderer renderer;
+
+    private final ReceiptSinkRouter sinkRouter;
+
+    private final Map<ReceiptDto, ReceiptLayout> layouts;
+
+    private final Map<RenderKey, RenderedReceipt> rendered;
+
+    public ReceiptRenderingService(ReceiptLayoutEngine layoutEngine,
+                                   ReceiptRenderer renderer,
+                                   ReceiptSinkRouter sinkRouter,
+                                   @Value("${app.receipt.cache-size:500}") int cacheSize) {
+        this.layoutEngine = layoutEngine;
+        this.renderer = renderer;
+        this.sinkRouter = sinkRouter;
+        this.layouts = lruMap(cacheSize);
+        this.rendered = lruMap(cacheSize);
+    }
+
+    /**
+     * Returns {@code receipt} rendered in {@code format}, with an {@code ETag}
+     * derived from the rendered bytes.
+     *
+     * @throws WriterException if the QR code cannot be encoded
+     * @throws IOException     if the image or PDF cannot be written
+     */
+    public RenderedReceipt render(ReceiptDto receipt, ReceiptFormat format) throws WriterException, IOException {
+        RenderKey key = new RenderKey(receipt, format);
+        RenderedReceipt cached = rendered.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] body = renderer.render(layout(receipt), format);
+        RenderedReceipt result = RenderedReceipt.builder()
+                .referenceNo(receipt.getReferenceNo())
+                .format(format)
+                .etag(etagOf(body))
+                .body(body)
+                .build();
+        rendered.put(key, result);
+        return result;
+    }
+
+    /**
+     * Prints {@code receipt} on the next configured printer.
+     *
+     * @throws PrinterException if printing fails or the receipt cannot be laid out
+     */
+    public void print(ReceiptDto receipt) throws PrinterException {
+        print(List.of(receipt));
+    }
+
+    /**
+     * Prints {@code receipts} as a single job on the next configured printer.
+     * Layouts are only built, or taken from the cache, if that printer draws
+     * the receipt.
+     *
+     * @throws PrinterException if printing fails or a receipt cannot be laid out
+     */
+    public void print(List<ReceiptDto> receipts) throws PrinterException {
+        List<ReceiptDocument> documents = new ArrayList<>(receipts.size());
+        for (ReceiptDto receipt : receipts) {
+            documents.add(new ReceiptDocument(receipt, this::layout));
+        }
+        sinkRouter.print(documents);
+    }
+
+    /**
+     * Renders {@code receipts} as one PDF with a page per receipt, laid out
+     * exactly as {@link #print(List)} would print them.
+     *
+     * @throws WriterException if a QR code cannot be encoded
+     * @throws IOException     if the PDF cannot be written
+     */
+    public byte[] renderPdf(List<ReceiptDto> receipts) throws WriterException, IOException {
+        return renderer.toPdf(layouts(receipts));
+    }
+
+    private List<ReceiptLayout> layouts(List<ReceiptDto> receipts) throws WriterException {
+        List<ReceiptLayout> layouts = new ArrayList<>(receipts.size());
+        for (ReceiptDto receipt : receipts) {
+            layouts.add(layout(receipt));
+        }
+        return layouts;
+    }
+
+    private ReceiptLayout layout(ReceiptDto receipt) throws WriterException {
+        ReceiptLayout layout = layouts.get(receipt);
+        if (layout == null) {
+            layout = layoutEngine.layout(receipt);
+            layouts.put(receipt, layout);
+        }
+        return layout;
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static <K, V> Map<K, V> lruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.laundry.receipt;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A receipt rendered to {@link #format}. {@link #etag} is a strong
+ * {@code ETag} derived from {@link #body}, so it changes whenever anything
+ * printed on the receipt changes.
+ */
+@Value
+@Builder
+public class RenderedReceipt {
+    String referenceNo;
+    ReceiptFormat format;
+    String etag;
+    byte[] body;
+}
@@ -0,0 +1,54 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+import com.laundry.receipt.ReceiptRenderer;
+
+import javax.print.PrintService;
+import javax.print.PrintServiceLookup;
+import java.awt.print.PrinterException;
+import java.util.List;
+
+/**
+ * Prints through the operating system's print spooler, on a named print
+ * service or the system default printer.
+ */
+public class AwtReceiptSink implements ReceiptSink {
+
+    private final String name;
+
+    private final String printServiceName;
+
+    private final ReceiptRenderer renderer;
+
+    public AwtReceiptSink(String name, String printServiceName, ReceiptRenderer renderer) {
+        this.name = name;
+        this.printServiceName = printServiceName;
+        this.renderer = renderer;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void print(List<ReceiptDocument> documents) throws PrinterException {
+        renderer.print(ReceiptDocument.layouts(documents), printService());
+    }
+
+    /**
+     * Looks the print service up on every job, so printers added or renamed
+     * in the OS are picked up without a restart.
+     */
+    private PrintService printService() throws PrinterException {
+        if (printServiceName == null || printServiceName.isBlank()) {
+            return null;
+        }
+        for (PrintService service : PrintServiceLookup.lookupPrintServices(null, null)) {
+            if (service.getName().equalsIgnoreCase(printServiceName)) {
+                return service;
+            }
+        }
+        throw new PrinterException("Print service not found: " + printServiceName);
+    }
+}
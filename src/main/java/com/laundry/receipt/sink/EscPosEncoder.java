@@ -0,0 +1,19 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+
+import java.awt.print.PrinterException;
+import java.util.List;
+
+/**
+ * Turns receipts into the ESC/POS byte stream of one print job.
+ */
+public interface EscPosEncoder {
+
+    /**
+     * Encodes {@code documents} as one job, each receipt followed by a paper cut.
+     *
+     * @throws PrinterException if a receipt the encoder needs the layout of cannot be laid out
+     */
+    byte[] encode(List<ReceiptDocument> documents) throws PrinterException;
+}
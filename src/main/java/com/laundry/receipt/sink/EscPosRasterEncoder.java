@@ -0,0 +1,81 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+import com.laundry.receipt.ReceiptLayout;
+import com.laundry.receipt.ReceiptRenderer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.awt.print.PrinterException;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encodes receipts as ESC/POS raster images ({@code GS v 0}), one cut receipt
+ * per document. The layout is rendered at the print head resolution, scaled
+ * down to the paper width if necessary, and thresholded to black and white.
+ */
+public class EscPosRasterEncoder implements EscPosEncoder {
+
+    private static final byte ESC = 0x1B;
+
+    private static final byte GS = 0x1D;
+
+    private static final int FEED_LINES_BEFORE_CUT = 4;
+
+    private final ReceiptRenderer renderer;
+
+    private final int widthDots;
+
+    private final int dpi;
+
+    public EscPosRasterEncoder(ReceiptRenderer renderer, int widthDots, int dpi) {
+        this.renderer = renderer;
+        this.widthDots = widthDots;
+        this.dpi = dpi;
+    }
+
+    @Override
+    public byte[] encode(List<ReceiptDocument> documents) throws PrinterException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[]{ESC, '@'});
+        for (ReceiptDocument document : documents) {
+            ReceiptLayout layout = document.layout();
+            double effectiveDpi = Math.min(dpi, widthDots * ReceiptRenderer.POINTS_PER_INCH / layout.getWidth());
+            writeRaster(out, renderer.toImage(layout, effectiveDpi));
+            out.writeBytes(new byte[]{ESC, 'd', FEED_LINES_BEFORE_CUT});
+            out.writeBytes(new byte[]{GS, 'V', 1});
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes {@code image} as one {@code GS v 0} command: 8 pixels per byte,
+     * most significant bit first, 1 for black.
+     */
+    private static void writeRaster(ByteArrayOutputStream out, BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int bytesPerRow = (width + 7) / 8;
+        out.writeBytes(new byte[]{
+                GS, 'v', '0', 0,
+                (byte) bytesPerRow, (byte) (bytesPerRow >> 8),
+                (byte) height, (byte) (height >> 8)
+        });
+
+        Raster raster = image.getRaster();
+        int[] row = new int[width];
+        byte[] packed = new byte[bytesPerRow];
+        for (int y = 0; y < height; y++) {
+            raster.getSamples(0, y, width, 1, 0, row);
+            Arrays.fill(packed, (byte) 0);
+            for (int x = 0; x < width; x++) {
+                if (row[x] < 128) {
+                    packed[x >> 3] |= (byte) (0x80 >> (x & 7));
+                }
+            }
+            out.writeBytes(packed);
+        }
+    }
+}
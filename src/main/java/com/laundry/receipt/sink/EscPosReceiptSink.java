@@ -0,0 +1,43 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+
+import java.awt.print.PrinterException;
+import java.awt.print.PrinterIOException;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sends receipts to a thermal printer as raw ESC/POS bytes, bypassing the
+ * operating system's spooler. Subclasses decide where the bytes go.
+ */
+public abstract class EscPosReceiptSink implements ReceiptSink {
+
+    private final String name;
+
+    private final EscPosEncoder encoder;
+
+    protected EscPosReceiptSink(String name, EscPosEncoder encoder) {
+        this.name = name;
+        this.encoder = encoder;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void print(List<ReceiptDocument> documents) throws PrinterException {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            send(encoder.encode(documents));
+        } catch (IOException e) {
+            throw new PrinterIOException(e);
+        }
+    }
+
+    protected abstract void send(byte[] data) throws IOException;
+}
@@ -0,0 +1,188 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptContent;
+import com.laundry.receipt.ReceiptDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes receipts as ESC/POS text in the printer's own fonts: the company
+ * name and slogan, a table with the order details, the printer's native QR
+ * code ({@code GS ( k}) and the reference number.
+ * <p>
+ * Text is sent in a code page the printer selects with {@code ESC t}, PC857
+ * (Turkish) by default, so Turkish letters print as they are. Only the QR code
+ * is transliterated to ASCII, exactly like on the label. Much less data than a
+ * raster image, and printed at the full resolution of the printer.
+ */
+public class EscPosTextEncoder implements EscPosEncoder {
+
+    private static final byte ESC = 0x1B;
+
+    private static final byte GS = 0x1D;
+
+    private static final byte LF = 0x0A;
+
+    private static final int FEED_LINES_BEFORE_CUT = 4;
+
+    /**
+     * Width of a character of font A, in dots.
+     */
+    private static final int CHARACTER_WIDTH_DOTS = 12;
+
+    private static final byte QR_MODEL_2 = '2';
+
+    private static final byte QR_ERROR_CORRECTION_M = '1';
+
+    /**
+     * Longest data the {@code GS ( k} store command accepts.
+     */
+    private static final int QR_MAX_DATA = 7089;
+
+    private final String companyName;
+
+    private final String companySlogan;
+
+    private final int columns;
+
+    private final int headerColumns;
+
+    private final byte codePage;
+
+    private final Charset charset;
+
+    private final byte qrModuleSize;
+
+    /**
+     * @param widthDots    printable width of the paper in dots
+     * @param codePage     number of the code page in the printer's {@code ESC t} table
+     * @param charset      Java charset matching {@code codePage}
+     * @param qrModuleSize width of a QR module in dots, 1..16
+     */
+    public EscPosTextEncoder(String companyName,
+                             String companySlogan,
+                             int widthDots,
+                             int codePage,
+                             Charset charset,
+                             int qrModuleSize) {
+        if (qrModuleSize < 1 || qrModuleSize > 16) {
+            throw new java.lang.IllegalArgumentException("QR module size must be between 1 and 16 dots");
+        }
+        this.companyName = companyName;
+        this.companySlogan = companySlogan;
+        this.columns = widthDots / CHARACTER_WIDTH_DOTS;
+        int longestHeader = 0;
+        for (String header : ReceiptContent.HEADERS) {
+            longestHeader = Math.max(longestHeader, header.length());
+        }
+        // Leave at least half of the line for the values on narrow paper.
+        this.headerColumns = Math.min(longestHeader + 1, columns / 2);
+        this.codePage = (byte) codePage;
+        this.charset = charset;
+        this.qrModuleSize = (byte) qrModuleSize;
+    }
+
+    @Override
+    public byte[] encode(List<ReceiptDocument> documents) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(documents.size() * 1024);
+        out.writeBytes(new byte[]{ESC, '@', ESC, 't', codePage});
+        for (ReceiptDocument document : documents) {
+            writeReceipt(out, document.receipt().getReferenceNo(),
+                    ReceiptContent.values(document.receipt(), companyName));
+            out.writeBytes(new byte[]{ESC, 'd', FEED_LINES_BEFORE_CUT});
+            out.writeBytes(new byte[]{GS, 'V', 1});
+        }
+        return out.toByteArray();
+    }
+
+    private void writeReceipt(ByteArrayOutputStream out, String referenceNo, String[] values) {
+        // Company name centred in bold, double width and height.
+        out.writeBytes(new byte[]{ESC, 'a', 1, ESC, 'E', 1, GS, '!', 0x11});
+        writeLine(out, companyName);
+        out.writeBytes(new byte[]{ESC, 'E', 0, GS, '!', 0});
+        writeLine(out, companySlogan);
+        out.write(LF);
+
+        out.writeBytes(new byte[]{ESC, 'a', 0});
+        StringBuilder line = new StringBuilder(columns);
+        for (int row = 0; row < ReceiptContent.HEADERS.size(); row++) {
+            List<String> lines = wrap(values[row], columns - headerColumns);
+            for (int i = 0; i < lines.size(); i++) {
+                line.setLength(0);
+                String header = i == 0 ? ReceiptContent.HEADERS.get(row) : "";
+                line.append(header, 0, Math.min(header.length(), headerColumns - 1));
+                line.repeat(' ', headerColumns - line.length());
+                line.append(lines.get(i));
+                writeLine(out, line);
+            }
+        }
+        out.write(LF);
+
+        out.writeBytes(new byte[]{ESC, 'a', 1});
+        writeQrCode(out, ReceiptContent.qrData(values));
+        writeLine(out, referenceNo);
+        out.writeBytes(new byte[]{ESC, 'a', 0});
+    }
+
+    /**
+     * Prints {@code data} as a model 2 QR code: select the model, module size
+     * and error correction, store the data in the symbol buffer, print it.
+     */
+    private void writeQrCode(ByteArrayOutputStream out, String data) {
+        byte[] bytes = data.getBytes(charset);
+        if (bytes.length > QR_MAX_DATA) {
+            throw new java.lang.IllegalArgumentException("QR code data too long: " + bytes.length + " bytes");
+        }
+        out.writeBytes(new byte[]{GS, '(', 'k', 4, 0, '1', 'A', QR_MODEL_2, 0});
+        out.writeBytes(new byte[]{GS, '(', 'k', 3, 0, '1', 'C', qrModuleSize});
+        out.writeBytes(new byte[]{GS, '(', 'k', 3, 0, '1', 'E', QR_ERROR_CORRECTION_M});
+        int length = bytes.length + 3;
+        out.writeBytes(new byte[]{GS, '(', 'k', (byte) length, (byte) (length >> 8), '1', 'P', '0'});
+        out.writeBytes(bytes);
+        out.writeBytes(new byte[]{GS, '(', 'k', 3, 0, '1', 'Q', '0'});
+        out.write(LF);
+    }
+
+    private void writeLine(ByteArrayOutputStream out, CharSequence text) {
+        out.writeBytes(text.toString().getBytes(charset));
+        out.write(LF);
+    }
+
+    /**
+     * Word-wraps {@code text} to lines of at most {@code width} characters,
+     * breaking words that are longer than a line. {@code null} is one empty line.
+     */
+    static List<String> wrap(String text, int width) {
+        List<String> lines = new ArrayList<>(1);
+        if (text == null || text.isEmpty()) {
+            lines.add("");
+            return lines;
+        }
+        StringBuilder line = new StringBuilder(width);
+        for (String word : text.trim().split("\\s+")) {
+            while (word.length() > width) {
+                if (!line.isEmpty()) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                }
+                lines.add(word.substring(0, width));
+                word = word.substring(width);
+            }
+            if (!line.isEmpty() && line.length() + 1 + word.length() > width) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+            if (!line.isEmpty()) {
+                line.append(' ');
+            }
+            line.append(word);
+        }
+        if (!line.isEmpty() || lines.isEmpty()) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,26 @@
+package com.laundry.receipt.sink;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ESC/POS written to a file or character device, e.g. {@code /dev/usb/lp0}
+ * for a USB printer. Jobs are appended, so a regular file collects
+ * everything that would have been printed.
+ */
+public class FileReceiptSink extends EscPosReceiptSink {
+
+    private final Path path;
+
+    public FileReceiptSink(String name, EscPosEncoder encoder, Path path) {
+        super(name, encoder);
+        this.path = path;
+    }
+
+    @Override
+    protected synchronized void send(byte[] data) throws IOException {
+        Files.write(path, data, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
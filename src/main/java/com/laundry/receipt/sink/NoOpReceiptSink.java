@@ -0,0 +1,27 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+
+import java.util.List;
+
+/**
+ * Accepts and discards every job. Jobs still show up in the printing
+ * metrics, so order creation can be load-tested without a printer.
+ */
+public class NoOpReceiptSink implements ReceiptSink {
+
+    private final String name;
+
+    public NoOpReceiptSink(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void print(List<ReceiptDocument> documents) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+import com.laundry.receipt.ReceiptRenderer;
+
+import java.awt.print.PrinterException;
+import java.awt.print.PrinterIOException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes each job as a PDF, one page per receipt, into a directory. Files are
+ * named after the first receipt's reference number and the number of further
+ * receipts, plus a unique suffix so reprints never overwrite earlier files.
+ */
+public class PdfFileReceiptSink implements ReceiptSink {
+
+    private final String name;
+
+    private final Path directory;
+
+    private final ReceiptRenderer renderer;
+
+    public PdfFileReceiptSink(String name, Path directory, ReceiptRenderer renderer) {
+        this.name = name;
+        this.directory = directory;
+        this.renderer = renderer;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void print(List<ReceiptDocument> documents) throws PrinterException {
+        if (documents.isEmpty()) {
+            return;
+        }
+        String prefix = documents.getFirst().receipt().getReferenceNo()
+                + (documents.size() > 1 ? "+" + (documents.size() - 1) : "") + "-";
+        try {
+            byte[] pdf = renderer.toPdf(ReceiptDocument.layouts(documents));
+            Files.createDirectories(directory);
+            Files.write(Files.createTempFile(directory, prefix, ".pdf"), pdf);
+        } catch (IOException e) {
+            throw new PrinterIOException(e);
+        }
+    }
+}
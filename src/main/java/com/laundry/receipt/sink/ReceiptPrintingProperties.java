@@ -0,0 +1,140 @@
+package com.laundry.receipt.sink;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Printers of the shop, bound from {@code app.receipt.printing.*}, e.g.
+ * <pre>
+ * app.receipt.printing.dispatch=least-busy
+ * app.receipt.printing.printers[0].name=counter
+ * app.receipt.printing.printers[0].type=escpos-socket
+ * app.receipt.printing.printers[0].host=192.168.1.50
+ * app.receipt.printing.printers[0].mode=text
+ * app.receipt.printing.printers[1].name=back-office
+ * app.receipt.printing.printers[1].type=awt
+ * app.receipt.printing.printers[1].print-service=Zebra ZD220
+ * </pre>
+ * Without any printer configured, receipts go to the system default printer
+ * as before.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.receipt.printing")
+public class ReceiptPrintingProperties {
+
+    public enum Dispatch {
+        /**
+         * Printers take turns.
+         */
+        ROUND_ROBIN,
+        /**
+         * The printer with the fewest jobs in progress gets the next one.
+         */
+        LEAST_BUSY
+    }
+
+    public enum Type {
+        /**
+         * A printer of the operating system, through {@link java.awt.print.PrinterJob}.
+         */
+        AWT,
+        /**
+         * Raw ESC/POS bytes sent to a network printer, usually on port 9100.
+         */
+        ESCPOS_SOCKET,
+        /**
+         * Raw ESC/POS bytes written to a file or device, e.g. {@code /dev/usb/lp0}.
+         */
+        ESCPOS_FILE,
+        /**
+         * One PDF per job, written to a directory.
+         */
+        PDF_FILE,
+        /**
+         * Discards receipts; for load tests and servers without a printer.
+         */
+        NOOP
+    }
+
+    public enum Mode {
+        /**
+         * Text in the printer's fonts with its native QR code.
+         */
+        TEXT,
+        /**
+         * The label layout as a raster image, exactly as on other printers.
+         */
+        RASTER
+    }
+
+    private Dispatch dispatch = Dispatch.ROUND_ROBIN;
+
+    private List<Printer> printers = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Printer {
+
+        /**
+         * Unique among the printers, as it tags their metrics; {@code printer-<index>} if empty.
+         */
+        private String name;
+
+        private Type type = Type.AWT;
+
+        /**
+         * {@link Type#AWT}: name of the print service; the system default printer if empty.
+         */
+        private String printService;
+
+        /**
+         * {@link Type#ESCPOS_SOCKET}: printer address and port.
+         */
+        private String host;
+
+        private int port = 9100;
+
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /**
+         * {@link Type#ESCPOS_FILE}: file or device to write to;
+         * {@link Type#PDF_FILE}: directory to write PDFs into.
+         */
+        private String path;
+
+        /**
+         * ESC/POS: printable width of the paper in dots (576 for 80 mm paper at 203 dpi).
+         */
+        private int widthDots = 576;
+
+        /**
+         * ESC/POS: print head resolution.
+         */
+        private int dpi = 203;
+
+        /**
+         * ESC/POS: what to send to the printer.
+         */
+        private Mode mode = Mode.TEXT;
+
+        /**
+         * ESC/POS text: code page number in the printer's {@code ESC t} table
+         * (13 is PC857, Turkish, on most Epson compatible printers) and the
+         * matching Java charset.
+         */
+        private int codePage = 13;
+
+        private String charset = "IBM857";
+
+        /**
+         * ESC/POS text: width of a QR code module in dots.
+         */
+        private int qrModuleSize = 5;
+    }
+}
@@ -0,0 +1,30 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+
+import java.awt.print.PrinterException;
+import java.util.List;
+
+/**
+ * A target receipts are printed to: a printer, a file or nothing at all.
+ * Sinks are created from {@link ReceiptPrintingProperties} and picked per job
+ * by {@link ReceiptSinkRouter}.
+ * <p>
+ * Implementations must be safe to call from several threads; a sink may be
+ * given the next job while it is still printing the previous one.
+ */
+public interface ReceiptSink {
+
+    /**
+     * @return the configured printer name, used in logs and metric tags
+     */
+    String getName();
+
+    /**
+     * Prints {@code documents} as one job, in order.
+     *
+     * @throws PrinterException if the job could not be printed; I/O failures
+     *                          are reported as {@link java.awt.print.PrinterIOException}
+     */
+    void print(List<ReceiptDocument> documents) throws PrinterException;
+}
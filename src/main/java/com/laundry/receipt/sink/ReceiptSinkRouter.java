@@ -0,0 +1,192 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.receipt.ReceiptDocument;
+import com.laundry.receipt.ReceiptRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.print.PrinterException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends each print job to one of the configured {@link ReceiptSink}s, taking
+ * turns or picking the least busy one ({@code app.receipt.printing.dispatch}).
+ * <p>
+ * Per printer it publishes {@code receipt.print} (job duration, tagged with
+ * the outcome), {@code receipt.print.receipts} (receipts printed) and
+ * {@code receipt.print.active} (jobs in progress).
+ */
+@Slf4j
+@Service
+public class ReceiptSinkRouter {
+
+    private record Route(ReceiptSink sink, AtomicInteger active, Timer succeeded, Timer failed, Counter receipts) {
+    }
+
+    private final ReceiptPrintingProperties.Dispatch dispatch;
+
+    private final List<Route> routes;
+
+    private final AtomicInteger nextRoute = new AtomicInteger();
+
+    public ReceiptSinkRouter(ReceiptPrintingProperties properties,
+                             ReceiptRenderer renderer,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.company.name}") String companyName,
+                             @Value("${app.company.slogan}") String companySlogan) {
+        this(properties.getDispatch(), createSinks(properties, renderer, companyName, companySlogan), meterRegistry);
+    }
+
+    /**
+     * Routes to {@code sinks}, in order, each tagged with its printer type.
+     *
+     * @throws IllegalStateException if two sinks have the same name, which would
+     *                               make them share their meters
+     */
+    ReceiptSinkRouter(ReceiptPrintingProperties.Dispatch dispatch,
+                      Map<ReceiptSink, ReceiptPrintingProperties.Type> sinks,
+                      MeterRegistry meterRegistry) {
+        Set<String> names = new HashSet<>();
+        for (ReceiptSink sink : sinks.keySet()) {
+            if (!names.add(sink.getName())) {
+                throw new IllegalStateException("Receipt printer name '" + sink.getName() + "' is used more than once");
+            }
+        }
+        this.dispatch = dispatch;
+        this.routes = sinks.entrySet().stream()
+                .map(sink -> route(sink.getKey(), sink.getValue(), meterRegistry))
+                .toList();
+        log.info("Receipt printers: {} ({} dispatch)",
+                this.routes.stream().map(route -> route.sink().getName()).toList(), dispatch);
+    }
+
+    /**
+     * Prints {@code documents} as one job on the next printer.
+     *
+     * @throws PrinterException if that printer fails; the job is not retried elsewhere
+     */
+    public void print(List<ReceiptDocument> documents) throws PrinterException {
+        if (documents.isEmpty()) {
+            return;
+        }
+        Route route = nextRoute();
+        route.active().incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            route.sink().print(documents);
+            route.succeeded().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            route.receipts().increment(documents.size());
+        } catch (PrinterException | RuntimeException e) {
+            route.failed().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            route.active().decrementAndGet();
+        }
+    }
+
+    private Route nextRoute() {
+        int offset = Math.floorMod(nextRoute.getAndIncrement(), routes.size());
+        if (dispatch == ReceiptPrintingProperties.Dispatch.ROUND_ROBIN) {
+            return routes.get(offset);
+        }
+        // Least busy; scanning from a rotating offset spreads ties over all printers.
+        Route best = null;
+        for (int i = 0; i < routes.size(); i++) {
+            Route candidate = routes.get((offset + i) % routes.size());
+            if (best == null || candidate.active().get() < best.active().get()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private static Map<ReceiptSink, ReceiptPrintingProperties.Type> createSinks(ReceiptPrintingProperties properties,
+                                                                            ReceiptRenderer renderer,
+                                                                            String companyName,
+                                                                            String companySlogan) {
+        Map<ReceiptSink, ReceiptPrintingProperties.Type> sinks = new LinkedHashMap<>();
+        List<ReceiptPrintingProperties.Printer> printers = properties.getPrinters();
+        if (printers.isEmpty()) {
+            sinks.put(new AwtReceiptSink("default", null, renderer), ReceiptPrintingProperties.Type.AWT);
+        }
+        for (int i = 0; i < printers.size(); i++) {
+            ReceiptPrintingProperties.Printer printer = printers.get(i);
+            if (printer.getName() == null || printer.getName().isBlank()) {
+                printer.setName("printer-" + i);
+            }
+            sinks.put(createSink(printer, renderer, companyName, companySlogan), printer.getType());
+        }
+        return sinks;
+    }
+
+    private static ReceiptSink createSink(ReceiptPrintingProperties.Printer printer,
+                                          ReceiptRenderer renderer,
+                                          String companyName,
+                                          String companySlogan) {
+        String name = printer.getName();
+        return switch (printer.getType()) {
+            case AWT -> new AwtReceiptSink(name, printer.getPrintService(), renderer);
+            case ESCPOS_SOCKET -> new SocketReceiptSink(name, encoder(printer, renderer, companyName, companySlogan),
+                    required(printer.getHost(), name, "host"), printer.getPort(), printer.getTimeout());
+            case ESCPOS_FILE -> new FileReceiptSink(name, encoder(printer, renderer, companyName, companySlogan),
+                    Path.of(required(printer.getPath(), name, "path")));
+            case PDF_FILE -> new PdfFileReceiptSink(name, Path.of(required(printer.getPath(), name, "path")), renderer);
+            case NOOP -> new NoOpReceiptSink(name);
+        };
+    }
+
+    private static EscPosEncoder encoder(ReceiptPrintingProperties.Printer printer,
+                                         ReceiptRenderer renderer,
+                                         String companyName,
+                                         String companySlogan) {
+        return switch (printer.getMode()) {
+            case TEXT -> new EscPosTextEncoder(companyName, companySlogan, printer.getWidthDots(),
+                    printer.getCodePage(), Charset.forName(printer.getCharset()), printer.getQrModuleSize());
+            case RASTER -> new EscPosRasterEncoder(renderer, printer.getWidthDots(), printer.getDpi());
+        };
+    }
+
+    private static String required(String value, String printer, String property) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Receipt printer '" + printer + "' needs a " + property);
+        }
+        return value;
+    }
+
+    private static Route route(ReceiptSink sink, ReceiptPrintingProperties.Type type, MeterRegistry meterRegistry) {
+        String printer = sink.getName();
+        String typeTag = type.name().toLowerCase();
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder("receipt.print.active", active, AtomicInteger::get)
+                .description("Print jobs in progress")
+                .tags("printer", printer, "type", typeTag)
+                .register(meterRegistry);
+        return new Route(sink, active,
+                printTimer(meterRegistry, printer, typeTag, "success"),
+                printTimer(meterRegistry, printer, typeTag, "failure"),
+                Counter.builder("receipt.print.receipts")
+                        .description("Receipts printed")
+                        .tags("printer", printer, "type", typeTag)
+                        .register(meterRegistry));
+    }
+
+    private static Timer printTimer(MeterRegistry meterRegistry, String printer, String type, String outcome) {
+        return Timer.builder("receipt.print")
+                .description("Duration of print jobs")
+                .tags("printer", printer, "type", type, "outcome", outcome)
+                .register(meterRegistry);
+    }
+}
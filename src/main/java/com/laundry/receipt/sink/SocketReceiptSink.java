@@ -0,0 +1,38 @@
+package com.laundry.receipt.sink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+
+/**
+ * ESC/POS over TCP, to the raw port of a network printer (usually 9100).
+ * A connection is opened per job and closed once the job is written.
+ */
+public class SocketReceiptSink extends EscPosReceiptSink {
+
+    private final String host;
+
+    private final int port;
+
+    private final Duration timeout;
+
+    public SocketReceiptSink(String name, EscPosEncoder encoder, String host, int port, Duration timeout) {
+        super(name, encoder);
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected void send(byte[] data) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
+            socket.setSoTimeout((int) timeout.toMillis());
+            OutputStream out = socket.getOutputStream();
+            out.write(data);
+            out.flush();
+        }
+    }
+}
@@ -2,7 +2,19 @@ package com.laundry.repository;
 
 import com.laundry.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
+    /**
+     * Loads the items of several orders in one query, grouped by order and in
+     * insertion order within each order. Used to assemble a page of order DTOs
+     * without initializing each order's item collection separately.
+     */
+    @Query("select i from OrderItem i where i.order.id in :orderIds order by i.order.id, i.id")
+    List<OrderItem> findByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -5,6 +5,8 @@ import com.laundry.entity.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -12,7 +14,12 @@ import java.time.LocalDateTime;
 @Repository
 public interface OrderPSHistoryRepository extends JpaRepository<OrderPaymentStatusHistory, Long> {
 
-    Page<OrderPaymentStatusHistory> findByOrderId(Long orderId, Pageable pageable);
+    /**
+     * Compares the order_id column directly, so the (order_id, changed_at)
+     * index is used; derived from the method name the query would join orders.
+     */
+    @Query("select h from OrderPaymentStatusHistory h where h.order.id = :orderId")
+    Page<OrderPaymentStatusHistory> findByOrderId(@Param("orderId") Long orderId, Pageable pageable);
 
     Page<OrderPaymentStatusHistory> findByOldPaymentStatus(PaymentStatus oldPaymentStatus, Pageable pageable);
 
@@ -0,0 +1,22 @@
+package com.laundry.repository;
+
+import com.laundry.entity.OrderReferenceSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OrderReferenceSequenceRepository extends JpaRepository<OrderReferenceSequence, String> {
+
+    /**
+     * Loads the sequence row of the day with the given {@code yyMMdd} prefix
+     * with {@code SELECT ... FOR UPDATE}, holding the lock until the
+     * surrounding transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from OrderReferenceSequence s where s.datePrefix = :datePrefix")
+    Optional<OrderReferenceSequence> findForUpdate(@Param("datePrefix") String datePrefix);
+}
@@ -1,14 +1,144 @@
 package com.laundry.repository;
 
 import com.laundry.entity.Order;
+import com.laundry.entity.OrderStatus;
+import com.laundry.repository.projection.OrderStatusView;
+import com.laundry.repository.projection.OrderSummaryView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     List<Order> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Returns the highest reference number starting with {@code prefix}, read
+     * from the unique index on {@code reference_no}.
+     */
+    @Query("select max(o.referenceNo) from Order o where o.referenceNo like concat(:prefix, '%')")
+    Optional<String> findMaxReferenceNoStartingWith(@Param("prefix") String prefix);
+
+    /**
+     * Returns the newest orders as column projections, ordered by
+     * {@code (created_at DESC, id DESC)}. Only the page size of
+     * {@code pageable} is used; no count query is issued.
+     */
+    @Query("""
+            select o.id as id, o.referenceNo as referenceNo, o.user.id as userId,
+                   o.product.id as productId, o.totalAmount as totalAmount,
+                   o.currencyCode as currencyCode, o.status as status,
+                   o.paymentStatus as paymentStatus, o.createdAt as createdAt,
+                   o.updatedAt as updatedAt
+            from Order o
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OrderSummaryView> findSummaries(Pageable pageable);
+
+    /**
+     * Keyset continuation of {@link #findSummaries(Pageable)}: returns the
+     * orders that sort strictly after {@code (createdAt, id)}.
+     */
+    @Query("""
+            select o.id as id, o.referenceNo as referenceNo, o.user.id as userId,
+                   o.product.id as productId, o.totalAmount as totalAmount,
+                   o.currencyCode as currencyCode, o.status as status,
+                   o.paymentStatus as paymentStatus, o.createdAt as createdAt,
+                   o.updatedAt as updatedAt
+            from Order o
+            where o.createdAt < :createdAt
+               or (o.createdAt = :createdAt and o.id < :id)
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OrderSummaryView> findSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    /**
+     * Locks the orders among {@code ids} that are currently in {@code status}
+     * ({@code SELECT ... FOR UPDATE}) and returns their ids in ascending order,
+     * so concurrent bulk transitions lock rows in the same order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id from Order o where o.id in :ids and o.status = :status order by o.id")
+    List<Long> lockIdsInStatus(@Param("ids") Collection<Long> ids,
+                               @Param("status") OrderStatus status);
+
+    /**
+     * Filter variant of {@link #lockIdsInStatus(Collection, OrderStatus)}:
+     * locks up to {@code pageable.getPageSize()} orders in {@code status},
+     * optionally restricted to one user and a creation time range.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select o.id from Order o
+            where o.status = :status
+              and (:userId is null or o.user.id = :userId)
+              and (:startDate is null or o.createdAt >= :startDate)
+              and (:endDate is null or o.createdAt <= :endDate)
+            order by o.id
+            """)
+    List<Long> lockIdsInStatusMatching(@Param("status") OrderStatus status,
+                                       @Param("userId") Long userId,
+                                       @Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate,
+                                       Pageable pageable);
+
+    /**
+     * Loads the given orders together with everything printed on their
+     * receipts (customer, product, items and their services) in one query.
+     */
+    @Query("""
+            select distinct o from Order o
+            join fetch o.user
+            join fetch o.product
+            left join fetch o.orderItems i
+            left join fetch i.service
+            where o.id in :ids
+            """)
+    List<Order> findWithReceiptDataByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns the ids of up to {@code pageable.getPageSize()} orders created
+     * between {@code startDate} and {@code endDate}, oldest first.
+     */
+    @Query("""
+            select o.id from Order o
+            where o.createdAt between :startDate and :endDate
+            order by o.createdAt, o.id
+            """)
+    List<Long> findIdsCreatedBetween(@Param("startDate") LocalDateTime startDate,
+                                     @Param("endDate") LocalDateTime endDate,
+                                     Pageable pageable);
+
+    @Query("select o.id as id, o.status as status from Order o where o.id in :ids")
+    List<OrderStatusView> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Moves the given orders from {@code from} to {@code to} in one statement
+     * and bumps their version, so concurrent optimistic writers see the change.
+     * Rows no longer in {@code from} are left untouched.
+     *
+     * @return the number of orders updated
+     */
+    @Modifying
+    @Query("""
+            update Order o set o.status = :to, o.updatedAt = :now, o.version = o.version + 1
+            where o.id in :ids and o.status = :from
+            """)
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") OrderStatus from,
+                     @Param("to") OrderStatus to,
+                     @Param("now") LocalDateTime now);
 }
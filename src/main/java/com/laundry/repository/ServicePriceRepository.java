@@ -1,15 +1,53 @@
 package com.laundry.repository;
 
 import com.laundry.entity.ServicePrice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ServicePriceRepository extends JpaRepository<ServicePrice, Long> {
 
-    boolean existsByServiceIdAndCurrencyCode(Long serviceId, String currencyCode);
+    /**
+     * Query cache region for price lookups by service and currency. Entries are
+     * invalidated by Hibernate whenever {@code service_prices} is written.
+     */
+    String PRICE_LOOKUP_REGION = "service-price-lookup";
 
-    Optional<ServicePrice> findByServiceIdAndCurrencyCode(Long serviceId, String currencyCode);
+    // The lookups below compare the service_id column directly. Derived from the
+    // method name they would left join services and filter on services.id,
+    // which keeps the (service_id, currency_code) key from being used.
+
+    @Query("""
+            select count(sp) > 0 from ServicePrice sp
+            where sp.service.id = :serviceId and sp.currencyCode = :currencyCode
+            """)
+    boolean existsByServiceIdAndCurrencyCode(@Param("serviceId") Long serviceId,
+                                             @Param("currencyCode") String currencyCode);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRICE_LOOKUP_REGION)
+    })
+    @Query("""
+            select sp from ServicePrice sp
+            where sp.service.id = :serviceId and sp.currencyCode = :currencyCode
+            """)
+    Optional<ServicePrice> findByServiceIdAndCurrencyCode(@Param("serviceId") Long serviceId,
+                                                          @Param("currencyCode") String currencyCode);
+
+    @Query("""
+            select sp from ServicePrice sp
+            where sp.service.id in :serviceIds and sp.currencyCode in :currencyCodes
+            """)
+    List<ServicePrice> findByServiceIdInAndCurrencyCodeIn(@Param("serviceIds") Collection<Long> serviceIds,
+                                                          @Param("currencyCodes") Collection<String> currencyCodes);
 }
@@ -2,10 +2,19 @@ package com.laundry.repository;
 
 import com.laundry.entity.Service;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ServiceRepository extends JpaRepository<Service, Long> {
 
     boolean existsByName(String name);
+
+    /**
+     * Loads every service together with its prices in a single query.
+     */
+    @Query("select distinct s from Service s left join fetch s.servicePrices order by s.id")
+    List<Service> findAllWithPrices();
 }
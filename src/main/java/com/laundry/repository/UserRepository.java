@@ -1,10 +1,15 @@
 package com.laundry.repository;
 
 import com.laundry.entity.User;
+import com.laundry.repository.projection.UserSummaryView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -19,4 +24,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByResetToken(String resetToken);
 
     Page<User> findAllByRole(String role, Pageable pageable);
+
+    /**
+     * Returns users as column projections, ordered by
+     * {@code (created_at DESC, id DESC)}, starting strictly after
+     * {@code (afterCreatedAt, afterId)} when those are given. Every filter is
+     * optional: {@code null} matches all rows. {@code keyword} is a lower-case
+     * {@code LIKE} pattern built by {@link com.laundry.util.LikeUtil}, matched
+     * against username, display name, email and phone. Only the page size of
+     * {@code pageable} is used; no count query is issued.
+     */
+    @Query("""
+            select u.id as id, u.username as username, u.displayName as displayName,
+                   u.email as email, u.phone as phone, u.role as role,
+                   u.createdAt as createdAt
+            from User u
+            where (:role is null or u.role = :role)
+              and (:startDate is null or u.createdAt >= :startDate)
+              and (:endDate is null or u.createdAt <= :endDate)
+              and (:keyword is null
+                   or lower(u.username) like :keyword escape '!'
+                   or lower(u.displayName) like :keyword escape '!'
+                   or lower(u.email) like :keyword escape '!'
+                   or u.phone like :keyword escape '!')
+              and (:afterCreatedAt is null
+                   or u.createdAt < :afterCreatedAt
+                   or (u.createdAt = :afterCreatedAt and u.id < :afterId))
+            order by u.createdAt desc, u.id desc
+            """)
+    List<UserSummaryView> findSummaries(@Param("role") String role,
+                                        @Param("startDate") LocalDateTime startDate,
+                                        @Param("endDate") LocalDateTime endDate,
+                                        @Param("keyword") String keyword,
+                                        @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
 }
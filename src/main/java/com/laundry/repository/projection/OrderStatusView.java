@@ -0,0 +1,14 @@
+package com.laundry.repository.projection;
+
+import com.laundry.entity.OrderStatus;
+
+/**
+ * Id and current status of an {@link com.laundry.entity.Order}, read without
+ * loading the entity.
+ */
+public interface OrderStatusView {
+
+    Long getId();
+
+    OrderStatus getStatus();
+}
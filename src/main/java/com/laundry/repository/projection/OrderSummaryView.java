@@ -0,0 +1,35 @@
+package com.laundry.repository.projection;
+
+import com.laundry.entity.OrderStatus;
+import com.laundry.entity.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Column-level projection of an {@link com.laundry.entity.Order} row used by
+ * listing queries. Only the {@code orders} table is read; no entity, user,
+ * product or item is loaded.
+ */
+public interface OrderSummaryView {
+
+    Long getId();
+
+    String getReferenceNo();
+
+    Long getUserId();
+
+    Long getProductId();
+
+    BigDecimal getTotalAmount();
+
+    String getCurrencyCode();
+
+    OrderStatus getStatus();
+
+    PaymentStatus getPaymentStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
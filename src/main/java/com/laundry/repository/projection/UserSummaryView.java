@@ -0,0 +1,25 @@
+package com.laundry.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Column-level projection of a {@link com.laundry.entity.User} row used by the
+ * admin user listing. Only the {@code users} table is read; neither the
+ * entity nor its orders are loaded.
+ */
+public interface UserSummaryView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getDisplayName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getRole();
+
+    LocalDateTime getCreatedAt();
+}
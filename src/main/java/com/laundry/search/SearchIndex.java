@@ -0,0 +1,239 @@
+package com.laundry.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory word index with prefix and fuzzy lookup, for up to about a
+ * hundred thousand short records.
+ * <p>
+ * Each record is a set of normalized words. A sorted map from word to record
+ * ids answers prefix queries with one range scan; a map from character
+ * trigram to words finds words that are spelt similarly. A query matches a
+ * record when every query word matches one of its words, either as a prefix
+ * (scoring 0.5 to 1, 1 for the whole word) or fuzzily (scoring below 0.5, by
+ * trigram similarity); numbers only match by prefix. Reads share a lock;
+ * updates are exclusive.
+ *
+ * @param <T> what is stored with each record and returned with its hits
+ */
+public final class SearchIndex<T> {
+
+    public record Hit<T>(long id, T document, double score) {
+    }
+
+    private record Entry<T>(T document, Set<String> words) {
+    }
+
+    /**
+     * Words shorter than this, and numbers, are only matched by prefix.
+     */
+    private static final int MIN_FUZZY_LENGTH = 3;
+
+    /**
+     * Lowest trigram similarity (Dice coefficient) of a fuzzy match.
+     */
+    private static final double MIN_SIMILARITY = 0.5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Entry<T>> entries = new HashMap<>();
+
+    private final NavigableMap<String, Set<Long>> idsByWord = new TreeMap<>();
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds or replaces record {@code id}.
+     */
+    public void put(long id, T document, Collection<String> words) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word != null && !word.isEmpty()) {
+                distinct.add(word);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            entries.put(id, new Entry<>(document, distinct));
+            for (String word : distinct) {
+                Set<Long> ids = idsByWord.get(word);
+                if (ids == null) {
+                    ids = new HashSet<>(4);
+                    idsByWord.put(word, ids);
+                    for (String trigram : trigrams(word)) {
+                        wordsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(word);
+                    }
+                }
+                ids.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} records matching every word of
+     * {@code query}, best first; ties are broken by id.
+     */
+    public List<Hit<T>> search(List<String> query, int limit) {
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String queryWord : query) {
+                Map<Long, Double> wordScores = match(queryWord);
+                if (scores == null) {
+                    scores = wordScores;
+                } else {
+                    scores.keySet().retainAll(wordScores.keySet());
+                    scores.replaceAll((id, score) -> score + wordScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            // Keep the best `limit` matches in a heap whose head is the worst of them.
+            Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+            for (Map.Entry<Long, Double> match : scores.entrySet()) {
+                best.add(match);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(best);
+            ranked.sort(ranking);
+            List<Hit<T>> hits = new ArrayList<>(ranked.size());
+            for (Map.Entry<Long, Double> match : ranked) {
+                hits.add(new Hit<>(match.getKey(), entries.get(match.getKey()).document(), match.getValue()));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every record with a word matching {@code queryWord}, keeping
+     * the best of its words.
+     */
+    private Map<Long, Double> match(String queryWord) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Set<Long>> word : idsByWord.subMap(queryWord, true, queryWord + Character.MAX_VALUE, false).entrySet()) {
+            double score = 0.5 + 0.5 * queryWord.length() / word.getKey().length();
+            for (Long id : word.getValue()) {
+                scores.merge(id, score, Math::max);
+            }
+        }
+        if (queryWord.length() < MIN_FUZZY_LENGTH || isNumber(queryWord)) {
+            return scores;
+        }
+
+        List<String> queryTrigrams = trigrams(queryWord);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                shared.merge(word, 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<String, Integer> candidate : shared.entrySet()) {
+            String word = candidate.getKey();
+            // A word has at most length + 1 trigrams; repeated trigrams make this slightly pessimistic.
+            double similarity = 2.0 * candidate.getValue() / (queryTrigrams.size() + word.length() + 1);
+            if (similarity < MIN_SIMILARITY) {
+                continue;
+            }
+            double score = 0.5 * similarity;
+            for (Long id : idsByWord.get(word)) {
+                scores.merge(id, score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Numbers are matched by prefix only; a number with a typo is another number.
+     */
+    private static boolean isNumber(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) < '0' || word.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removeLocked(long id) {
+        Entry<T> entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String word : entry.words()) {
+            Set<Long> ids = idsByWord.get(word);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByWord.remove(word);
+                for (String trigram : trigrams(word)) {
+                    Set<String> words = wordsByTrigram.get(trigram);
+                    words.remove(word);
+                    if (words.isEmpty()) {
+                        wordsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Distinct trigrams of {@code word} padded with a space on both sides, so
+     * that a word of n characters has at most n + 1 of them and the first and
+     * last letters weigh as much as the middle ones.
+     */
+    private static List<String> trigrams(String word) {
+        String padded = " " + word + " ";
+        List<String> trigrams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            String trigram = padded.substring(i, i + 3);
+            if (!trigrams.contains(trigram)) {
+                trigrams.add(trigram);
+            }
+        }
+        return trigrams;
+    }
+}
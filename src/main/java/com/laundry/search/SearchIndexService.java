@@ -0,0 +1,284 @@
+package com.laundry.search;
+
+import com.laundry.dto.SearchResultDto;
+import com.laundry.dto.SearchType;
+import com.laundry.entity.Product;
+import com.laundry.entity.User;
+import com.laundry.repository.ProductRepository;
+import com.laundry.repository.UserRepository;
+import com.laundry.util.TurkishCharacterUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Accent-insensitive search over users (display name, username, email,
+ * phone) and products (name, description).
+ * <p>
+ * Text is indexed as {@link TurkishCharacterUtil#toFuzzyKey(String) fuzzy
+ * keys}, so "Şükrü", "ŞÜKRÜ" and "Sukru" are the same word. Phone numbers are
+ * indexed as digits, with and without the country code and trunk prefix, and
+ * by their last seven digits, so "0532 123 45 67", "+90 532..." and
+ * "1234567" all find the same user.
+ * <p>
+ * The index is loaded when the application starts and updated by
+ * {@code UserServiceImpl} and {@code ProductServiceImpl} after their
+ * transactions commit; a rollback leaves it untouched. A rebuild loads fresh
+ * indexes while searches keep using the current ones, replays the updates
+ * that committed in the meantime and then swaps them in.
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+
+    private static final int SUBSCRIBER_DIGITS = 7;
+
+    private static final int DESCRIPTION_PREVIEW_LENGTH = 80;
+
+    private final UserRepository userRepository;
+
+    private final ProductRepository productRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile Indexes indexes = new Indexes();
+
+    /**
+     * Updates applied since the running rebuild started; {@code null} when
+     * no rebuild is running. Guarded by {@code this}.
+     */
+    private List<Consumer<Indexes>> pendingUpdates;
+
+    public SearchIndexService(UserRepository userRepository,
+                              ProductRepository productRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            synchronized (this) {
+                pendingUpdates = new ArrayList<>();
+            }
+            Indexes rebuilt = new Indexes();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    userRepository.findAll().forEach(user -> putUser(rebuilt.users(), user));
+                    productRepository.findAll().forEach(product -> putProduct(rebuilt.products(), product));
+                });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingUpdates = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                // Updates that committed while loading may be missing from what was read; replaying them in
+                // order leaves the latest state of each record, whether or not the load saw it.
+                pendingUpdates.forEach(update -> update.accept(rebuilt));
+                pendingUpdates = null;
+                indexes = rebuilt;
+            }
+            log.info("Search index built: {} users, {} products in {} ms",
+                    rebuilt.users().size(), rebuilt.products().size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} users and products matching every word of
+     * {@code query}, best first; {@code type} restricts the search to one
+     * kind of record when not {@code null}.
+     */
+    public List<SearchResultDto> search(String query, SearchType type, int limit) {
+        List<String> words = queryWords(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        Indexes indexes = this.indexes;
+        List<SearchResultDto> results = new ArrayList<>();
+        if (type == null || type == SearchType.USER) {
+            indexes.users().search(words, limit).forEach(hit -> results.add(withScore(hit)));
+        }
+        if (type == null || type == SearchType.PRODUCT) {
+            indexes.products().search(words, limit).forEach(hit -> results.add(withScore(hit)));
+        }
+        if (type == null) {
+            results.sort(Comparator.comparingDouble(SearchResultDto::getScore).reversed());
+            return results.size() > limit ? List.copyOf(results.subList(0, limit)) : results;
+        }
+        return results;
+    }
+
+    public void indexUser(User user) {
+        afterCommit(indexes -> putUser(indexes.users(), user));
+    }
+
+    public void removeUser(Long id) {
+        afterCommit(indexes -> indexes.users().remove(id));
+    }
+
+    public void indexProduct(Product product) {
+        afterCommit(indexes -> putProduct(indexes.products(), product));
+    }
+
+    public void removeProduct(Long id) {
+        afterCommit(indexes -> indexes.products().remove(id));
+    }
+
+    private synchronized void apply(Consumer<Indexes> update) {
+        update.accept(indexes);
+        if (pendingUpdates != null) {
+            pendingUpdates.add(update);
+        }
+    }
+
+    private static void putUser(SearchIndex<SearchResultDto> users, User user) {
+        List<String> words = new ArrayList<>();
+        addWords(words, user.getDisplayName());
+        addWords(words, user.getUsername());
+        addWords(words, user.getEmail());
+        addPhoneWords(words, user.getPhone());
+        String contact = user.getEmail() != null ? user.getEmail() : user.getPhone();
+        users.put(user.getId(), SearchResultDto.builder()
+                .type(SearchType.USER)
+                .id(user.getId())
+                .title(user.getDisplayName() != null ? user.getDisplayName() : user.getUsername())
+                .subtitle(contact)
+                .build(), words);
+    }
+
+    private static void putProduct(SearchIndex<SearchResultDto> products, Product product) {
+        List<String> words = new ArrayList<>();
+        addWords(words, product.getName());
+        addWords(words, product.getDescription());
+        String description = product.getDescription();
+        if (description != null && description.length() > DESCRIPTION_PREVIEW_LENGTH) {
+            description = description.substring(0, DESCRIPTION_PREVIEW_LENGTH) + "…";
+        }
+        products.put(product.getId(), SearchResultDto.builder()
+                .type(SearchType.PRODUCT)
+                .id(product.getId())
+                .title(product.getName())
+                .subtitle(description)
+                .build(), words);
+    }
+
+    /**
+     * Splits {@code query} into index words. A query of only digits and
+     * phone punctuation is one phone number, whatever its spacing.
+     */
+    static List<String> queryWords(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        if (isPhoneNumber(query)) {
+            return List.of(nationalNumber(digits(query)));
+        }
+        String key = TurkishCharacterUtil.toFuzzyKey(query);
+        return key.isEmpty() ? List.of() : List.of(key.split(" "));
+    }
+
+    private static void addWords(List<String> words, String text) {
+        if (text != null) {
+            words.addAll(queryWords(text));
+        }
+    }
+
+    private static void addPhoneWords(List<String> words, String phone) {
+        if (phone == null) {
+            return;
+        }
+        String digits = digits(phone);
+        if (digits.isEmpty()) {
+            return;
+        }
+        String national = nationalNumber(digits);
+        words.add(digits);
+        words.add(national);
+        if (national.length() > SUBSCRIBER_DIGITS) {
+            words.add(national.substring(national.length() - SUBSCRIBER_DIGITS));
+        }
+    }
+
+    private static boolean isPhoneNumber(String query) {
+        boolean digit = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c != ' ' && c != '+' && c != '-' && c != '(' && c != ')' && c != '.') {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    private static String digits(String text) {
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Strips the Turkish country code and trunk prefix: "905321234567" and
+     * "05321234567" both become "5321234567".
+     */
+    private static String nationalNumber(String digits) {
+        if (digits.startsWith("90") && digits.length() == 12) {
+            return digits.substring(2);
+        }
+        if (digits.startsWith("0") && digits.length() > 1) {
+            return digits.substring(1);
+        }
+        return digits;
+    }
+
+    private static SearchResultDto withScore(SearchIndex.Hit<SearchResultDto> hit) {
+        return hit.document().toBuilder().score(hit.score()).build();
+    }
+
+    private void afterCommit(Consumer<Indexes> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(update);
+            }
+        });
+    }
+
+    /**
+     * The user and product indexes, swapped together by {@link #rebuild()}.
+     */
+    private record Indexes(SearchIndex<SearchResultDto> users, SearchIndex<SearchResultDto> products) {
+
+        Indexes() {
+            this(new SearchIndex<>(), new SearchIndex<>());
+        }
+    }
+}
@@ -1,22 +1,37 @@
 package com.laundry.service;
 
+import com.laundry.dto.CursorPageResponseDto;
 import com.laundry.dto.UserResponseDto;
+import com.laundry.dto.UserSummaryResponseDto;
 import com.laundry.entity.User;
 import com.laundry.exception.AccessDeniedException;
 import com.laundry.exception.NotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 public interface AdminUserService {
     /**
-     * Retrieves all {@link User} entities from the database and converts them
-     * into {@link UserResponseDto} objects. Requires the {@code ADMIN} role.
+     * Lists users newest first with keyset pagination, reading only the
+     * columns of {@link UserSummaryResponseDto}. Every filter is optional.
+     * Requires the {@code ADMIN} role.
      *
-     * @return a list of {@link UserResponseDto} representing all users
+     * @param role      only users with this role ({@code USER} or {@code ADMIN}), case-insensitive
+     * @param startDate only users created at or after this time
+     * @param endDate   only users created at or before this time
+     * @param keyword   only users whose username, display name, email or phone contains it, case-insensitive
+     * @param cursor    the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size      the requested page size; defaults to {@link com.laundry.util.PageUtil#DEFAULT_PAGE_SIZE}
+     *                  and is capped at {@link com.laundry.util.PageUtil#MAX_PAGE_SIZE}
+     * @return one page of user summaries with the cursor for the next page
      */
-    List<UserResponseDto> getAllUsers();
+    CursorPageResponseDto<UserSummaryResponseDto> getUsers(String role,
+                                                           LocalDateTime startDate,
+                                                           LocalDateTime endDate,
+                                                           String keyword,
+                                                           String cursor,
+                                                           Integer size);
 
     /**
      * Retrieves a single {@link User} by its unique identifier and converts it
@@ -1,16 +1,25 @@
 package com.laundry.service;
 
+import com.laundry.dto.CursorPageResponseDto;
+import com.laundry.dto.OrderBatchPrintRequestDto;
+import com.laundry.dto.OrderBatchPrintResponseDto;
+import com.laundry.dto.OrderBatchRequestDto;
+import com.laundry.dto.OrderBatchResponseDto;
+import com.laundry.dto.OrderBulkAdvanceRequestDto;
+import com.laundry.dto.OrderBulkAdvanceResponseDto;
 import com.laundry.dto.OrderRequestDto;
 import com.laundry.dto.OrderResponseDto;
+import com.laundry.dto.OrderSummaryResponseDto;
 import com.laundry.exception.AccessDeniedException;
 import com.laundry.exception.BadRequestException;
 import com.laundry.exception.NotFoundException;
+import com.laundry.receipt.ReceiptFormat;
+import com.laundry.receipt.RenderedReceipt;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
 
 public interface OrderService {
 
@@ -19,14 +28,51 @@ public interface OrderService {
                                  String currentUserRole)
             throws Exception;
 
+    /**
+     * Creates several orders in one transaction. Users, products, services and
+     * prices for the whole batch are resolved with one query each, the
+     * accepted orders get a contiguous block of reference numbers and are
+     * inserted in JDBC batches, and their receipts are queued for printing
+     * once the transaction commits.
+     * <p>
+     * Entries that fail validation are reported in the result and do not
+     * prevent the other entries from being created.
+     *
+     * @param requestDto      the orders to create
+     * @param currentUserId   the ID of the currently logged-in user
+     * @param currentUserRole the role of the currently logged-in user
+     * @return one result per requested order, in request order
+     * @throws AccessDeniedException if the current user is not an admin
+     * @throws BadRequestException if the batch is empty or too large
+     */
+    OrderBatchResponseDto createOrders(OrderBatchRequestDto requestDto,
+                                       Long currentUserId,
+                                       String currentUserRole)
+            throws AccessDeniedException, BadRequestException;
+
+    /**
+     * Replaces an order. When {@code expectedVersion} is given (from
+     * {@code If-Match}) the update only succeeds if the order still has that
+     * version; a concurrent write that slips in before commit fails with
+     * an optimistic locking error instead of being overwritten.
+     *
+     * @param expectedVersion the version the client last read, or {@code null} to skip the check
+     * @throws com.laundry.exception.PreconditionFailedException if the order's version differs from {@code expectedVersion}
+     */
     OrderResponseDto updateOrder(Long id,
                                  OrderRequestDto requestDto,
+                                 Long expectedVersion,
                                  Long currentUserId,
                                  String currentUserRole)
             throws NotFoundException, AccessDeniedException, BadRequestException;
 
+    /**
+     * Partially updates an order, with the same version check as
+     * {@link #updateOrder(Long, OrderRequestDto, Long, Long, String)}.
+     */
     OrderResponseDto patchOrder(Long id,
                                 OrderRequestDto requestDto,
+                                Long expectedVersion,
                                 Long currentUserId,
                                 String currentUserRole)
             throws NotFoundException, AccessDeniedException, BadRequestException;
@@ -36,8 +82,22 @@ public interface OrderService {
                                   String currentUserRole)
             throws NotFoundException, AccessDeniedException;
 
-    List<OrderResponseDto> getAllOrders(Long currentUserId,
-                                        String currentUserRole)
+    /**
+     * Lists orders newest first using keyset pagination on
+     * {@code (created_at, id)}. Rows are read as column projections, so the
+     * cost of a page does not depend on the size of the {@code orders} table.
+     *
+     * @param cursor          the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size            the requested page size, capped at {@link com.laundry.util.PageUtil#MAX_PAGE_SIZE}
+     * @param currentUserId   the ID of the currently logged-in user
+     * @param currentUserRole the role of the currently logged-in user
+     * @return one page of order summaries with the cursor for the next page
+     * @throws AccessDeniedException if the current user is not an admin
+     */
+    CursorPageResponseDto<OrderSummaryResponseDto> getOrders(String cursor,
+                                                             Integer size,
+                                                             Long currentUserId,
+                                                             String currentUserRole)
             throws AccessDeniedException;
 
     void deleteOrder(Long id,
@@ -45,11 +105,48 @@ public interface OrderService {
                      String currentUserRole)
             throws NotFoundException, AccessDeniedException;
 
+    /**
+     * Moves an order to the next workflow status and records the change.
+     * <p>
+     * Without {@code expectedVersion}, losing an optimistic locking race is
+     * retried a few times. The retry keeps the transition chosen on the first
+     * attempt: if a concurrent request already made it, the current order is
+     * returned and no second history row is written; if the order moved
+     * elsewhere, a {@link com.laundry.exception.ConflictException} is thrown.
+     * With {@code expectedVersion} there is no retry.
+     *
+     * @param expectedVersion the version the client last read, or {@code null} to skip the check
+     * @throws com.laundry.exception.PreconditionFailedException if the order's version differs from {@code expectedVersion}
+     */
     OrderResponseDto advanceOrderStatus(Long orderId,
+                                        Long expectedVersion,
                                         Long currentUserId,
                                         String currentUserRole)
             throws NotFoundException, AccessDeniedException, BadRequestException;
 
+    /**
+     * Advances many orders from {@code requestDto.fromStatus} to the next
+     * workflow status in one transaction. The eligible orders are locked,
+     * moved with a single {@code UPDATE ... WHERE id IN (...) AND status = ?}
+     * and their history rows are inserted in JDBC batches.
+     * <p>
+     * Requested orders that do not exist or are in another status are reported
+     * as skipped. In filter mode at most one call's worth of orders is moved and
+     * {@code hasMore} tells the caller to repeat the request.
+     *
+     * @param requestDto      the transition and the orders (ids or filter) to apply it to
+     * @param currentUserId   the ID of the currently logged-in user, recorded in the history
+     * @param currentUserRole the role of the currently logged-in user
+     * @return the advanced and skipped order ids
+     * @throws AccessDeniedException if the current user is not an admin
+     * @throws BadRequestException if the transition is invalid, too many ids are given,
+     *                             or neither ids nor a filter are given
+     */
+    OrderBulkAdvanceResponseDto advanceOrderStatuses(OrderBulkAdvanceRequestDto requestDto,
+                                                     Long currentUserId,
+                                                     String currentUserRole)
+            throws AccessDeniedException, BadRequestException;
+
     Page<OrderResponseDto> searchOrders(
             Long userId,
             com.laundry.entity.OrderStatus status,
@@ -60,6 +157,77 @@ public interface OrderService {
             String keyword,
             Pageable pageable);
 
+    /**
+     * Cursor mode of {@link #searchOrders}. Accepts the same filters but pages
+     * with keyset pagination on {@code (created_at, id)} instead of an offset,
+     * so deep pages cost the same as the first one. The {@code COUNT(*)} query
+     * is skipped unless {@code includeTotal} is {@code true}.
+     *
+     * @param cursor       the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size         the requested page size, capped at {@link com.laundry.util.PageUtil#MAX_PAGE_SIZE}
+     * @param includeTotal whether to run a count query and fill {@code totalElements}
+     * @return one page of matching orders with the cursor for the next page
+     */
+    CursorPageResponseDto<OrderResponseDto> searchOrdersByCursor(
+            Long userId,
+            com.laundry.entity.OrderStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            String keyword,
+            String cursor,
+            Integer size,
+            boolean includeTotal);
+
     void printOrder(Long orderId, Long currentUserId, String currentUserRole) throws Exception;
 
+    /**
+     * Prints the receipts of many orders as the pages of one print job. All
+     * orders are loaded in a single query; requested ids that do not exist are
+     * reported and skipped.
+     *
+     * @param requestDto      the order ids, or the creation date range, to print
+     * @param currentUserId   the ID of the currently logged-in user
+     * @param currentUserRole the role of the currently logged-in user
+     * @return the printed reference numbers and the ids that were not found
+     * @throws AccessDeniedException if the current user is not an admin
+     * @throws BadRequestException   if neither ids nor a full date range is given, or too many orders match
+     */
+    OrderBatchPrintResponseDto printOrders(OrderBatchPrintRequestDto requestDto,
+                                           Long currentUserId,
+                                           String currentUserRole) throws Exception;
+
+    /**
+     * Dry run of {@link #printOrders(OrderBatchPrintRequestDto, Long, String)}:
+     * renders the same pages into a multi-page PDF instead of printing them.
+     *
+     * @return the PDF document, one page per receipt
+     * @throws NotFoundException     if none of the requested orders exist
+     * @throws AccessDeniedException if the current user is not an admin
+     * @throws BadRequestException   if neither ids nor a full date range is given, or too many orders match
+     */
+    byte[] renderOrderReceipts(OrderBatchPrintRequestDto requestDto,
+                               Long currentUserId,
+                               String currentUserRole)
+            throws NotFoundException, AccessDeniedException, BadRequestException;
+
+    /**
+     * Renders the receipt of an order as an image or PDF without printing it.
+     * Rendered receipts are cached by their content.
+     *
+     * @param orderId         the ID of the order
+     * @param format          the output format
+     * @param currentUserId   the ID of the currently logged-in user
+     * @param currentUserRole the role of the currently logged-in user
+     * @return the rendered receipt together with its {@code ETag}
+     * @throws NotFoundException     if the order does not exist
+     * @throws AccessDeniedException if the current user is not an admin
+     */
+    RenderedReceipt getReceipt(Long orderId,
+                               ReceiptFormat format,
+                               Long currentUserId,
+                               String currentUserRole)
+            throws NotFoundException, AccessDeniedException;
+
 }
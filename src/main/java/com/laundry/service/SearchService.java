@@ -0,0 +1,20 @@
+package com.laundry.service;
+
+import com.laundry.dto.SearchResultDto;
+import com.laundry.dto.SearchType;
+
+import java.util.List;
+
+public interface SearchService {
+
+    /**
+     * Searches users and products by name, email or phone, ignoring case and
+     * Turkish accents and tolerating small typos. Requires the {@code ADMIN} role.
+     *
+     * @param query the search text; every word must match
+     * @param type  {@link SearchType#USER} or {@link SearchType#PRODUCT}, or {@code null} for both
+     * @param limit the maximum number of results, 1 to 100
+     * @return the matches, best first
+     */
+    List<SearchResultDto> search(String query, SearchType type, int limit, Long currentUserId, String currentUserRole);
+}
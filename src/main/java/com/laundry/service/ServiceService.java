@@ -1,5 +1,6 @@
 package com.laundry.service;
 
+import com.laundry.dto.ServiceCatalogSnapshot;
 import com.laundry.dto.ServiceRequestDto;
 import com.laundry.dto.ServiceResponseDto;
 import com.laundry.exception.AccessDeniedException;
@@ -102,6 +103,15 @@ public interface ServiceService {
      */
     List<ServiceResponseDto> getAllServices();
 
+    /**
+     * Returns the full service catalog (all services with their prices) as a
+     * pre-serialized JSON snapshot. The snapshot is cached in memory and rebuilt
+     * only after a service or price has changed.
+     *
+     * @return the current {@link ServiceCatalogSnapshot}
+     */
+    ServiceCatalogSnapshot getCatalog();
+
     /**
      * Deletes the service identified by the given {@code id}. Only administrators are
      * allowed to delete existing services.
@@ -1,19 +1,29 @@
 package com.laundry.service.impl;
 
+import com.laundry.dto.CursorPageResponseDto;
 import com.laundry.dto.UserResponseDto;
+import com.laundry.dto.UserSummaryResponseDto;
 import com.laundry.entity.User;
 import com.laundry.exception.AccessDeniedException;
+import com.laundry.exception.BadRequestException;
 import com.laundry.exception.NotFoundException;
 import com.laundry.mapper.UserMapper;
 import com.laundry.repository.UserRepository;
+import com.laundry.repository.projection.UserSummaryView;
 import com.laundry.service.AdminUserService;
+import com.laundry.util.KeysetCursor;
+import com.laundry.util.LikeUtil;
+import com.laundry.util.PageUtil;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @Service
 public class AdminUserServiceImpl implements AdminUserService {
@@ -26,11 +36,44 @@ public class AdminUserServiceImpl implements AdminUserService {
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public List<UserResponseDto> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(UserMapper::toResponseDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<UserSummaryResponseDto> getUsers(String role,
+                                                                  LocalDateTime startDate,
+                                                                  LocalDateTime endDate,
+                                                                  String keyword,
+                                                                  String cursor,
+                                                                  Integer size) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("startDate must not be after endDate");
+        }
+
+        int pageSize = PageUtil.resolvePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        // Fetch one extra row to learn whether another page exists
+        List<UserSummaryView> rows = userRepository.findSummaries(
+                role == null || role.isBlank() ? null : role.toUpperCase(Locale.ROOT),
+                startDate,
+                endDate,
+                keyword == null || keyword.isBlank() ? null : LikeUtil.contains(keyword.trim().toLowerCase(Locale.ROOT)),
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                PageRequest.ofSize(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserSummaryView> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            UserSummaryView last = pageRows.getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDto.<UserSummaryResponseDto>builder()
+                .items(pageRows.stream().map(UserMapper::toSummaryDto).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Override
@@ -51,7 +94,7 @@ public class AdminUserServiceImpl implements AdminUserService {
             throw new AccessDeniedException("Invalid role assignment: " + newRole);
         }
 
-        user.setRole(newRole.toUpperCase());
+        user.setRole(newRole.toUpperCase(Locale.ROOT));
         userRepository.save(user);
         return UserMapper.toResponseDto(user);
     }
@@ -59,7 +102,7 @@ public class AdminUserServiceImpl implements AdminUserService {
     @Override
     @PreAuthorize("hasRole('ADMIN')")
     public Page<UserResponseDto> getAllUsersByRole(String role, Pageable pageable) {
-        Page<User> users = userRepository.findAllByRole(role.toUpperCase(), pageable);
+        Page<User> users = userRepository.findAllByRole(role.toUpperCase(Locale.ROOT), pageable);
         return users.map(UserMapper::toResponseDto);
     }
 }
@@ -0,0 +1,299 @@
+package com.laundry.service.impl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laundry.entity.IdempotencyRecord;
+import com.laundry.exception.BadRequestException;
+import com.laundry.exception.ConflictException;
+import com.laundry.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays the stored response of create requests that are retried with the
+ * same {@value #HEADER} header, so a retry after a dropped connection does not
+ * create (or print) an order twice.
+ * <p>
+ * Keys are scoped to the endpoint and the user, and a key may only be reused
+ * with the same request body. Three layers are consulted in order:
+ * <ol>
+ *   <li>an in-memory LRU of recently completed responses, so a retry that
+ *       reaches the same node costs no query;</li>
+ *   <li>the requests currently running on this node: a duplicate that arrives
+ *       while the first is still running waits for its result instead of
+ *       running again;</li>
+ *   <li>the {@code idempotency_keys} table, shared by all nodes. The row is
+ *       inserted at the start of the create transaction, so a duplicate on
+ *       another node waits on the primary key until the first request commits
+ *       (and then replays its response) or rolls back (and then runs itself).</li>
+ * </ol>
+ * Only successful responses are stored; a failed request leaves nothing behind
+ * and may be retried with the same key. Stored responses expire after
+ * {@code app.idempotency.ttl} and are purged at most once per
+ * {@code app.idempotency.purge-interval}.
+ */
+@Slf4j
+@Service
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * How long a duplicate waits for the request already running on this node.
+     */
+    private static final Duration IN_FLIGHT_WAIT = Duration.ofSeconds(30);
+
+    private record StoredResponse(String requestHash, String body, LocalDateTime expiresAt) {
+
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+
+    /**
+     * Thrown inside the create transaction when another request already holds
+     * the key, so the transaction rolls back before the action runs.
+     */
+    private static class KeyTakenException extends RuntimeException {
+    }
+
+    /**
+     * Carries a checked exception of the action through {@link TransactionTemplate}.
+     */
+    private static class CheckedActionException extends RuntimeException {
+        CheckedActionException(Exception cause) {
+            super(cause);
+        }
+    }
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration ttl;
+
+    private final Duration purgeInterval;
+
+    private final Map<String, StoredResponse> completed;
+
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.idempotency.cache-size:10000}") int cacheSize,
+                            @Value("${app.idempotency.purge-interval:10m}") Duration purgeInterval) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.purgeInterval = purgeInterval;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} at most once per {@code idempotencyKey}. The action
+     * runs inside a transaction that also stores its response, so the response
+     * is stored exactly when the action's changes are committed. Without a key
+     * the action simply runs.
+     *
+     * @param operation      the endpoint the key belongs to, e.g. {@code "POST /api/orders"}
+     * @param idempotencyKey the client's {@value #HEADER} header, may be {@code null}
+     * @param userId         the ID of the currently logged-in user
+     * @param request        the request body, used to detect a key reused for another request
+     * @param responseType   the type returned by {@code action}
+     * @param action         the create call to protect
+     * @return the action's result, or the stored result of an earlier request with the same key
+     * @throws BadRequestException if the key is too long or was used for a different request
+     * @throws ConflictException if the earlier request with the same key is still running
+     */
+    public <T> T execute(String operation,
+                         String idempotencyKey,
+                         Long userId,
+                         Object request,
+                         Class<T> responseType,
+                         Callable<T> action) throws Exception {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.call();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        String id = sha256Hex((operation + '\n' + userId + '\n' + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256Hex(objectMapper.writeValueAsBytes(request));
+
+        while (true) {
+            StoredResponse stored = findCompleted(id);
+            if (stored != null) {
+                return replay(stored, requestHash, responseType);
+            }
+
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(id, mine);
+            if (running != null) {
+                stored = awaitInFlight(running);
+                if (stored != null) {
+                    return replay(stored, requestHash, responseType);
+                }
+                // The running request failed and stored nothing; try again ourselves.
+                continue;
+            }
+
+            StoredResponse outcome = null;
+            try {
+                IdempotencyRecord record = newRecord(id, requestHash);
+                T result = runAndStore(record, action);
+                outcome = new StoredResponse(requestHash, record.getResponseBody(), record.getExpiresAt());
+                completed.put(id, outcome);
+                purgeExpiredIfDue();
+                return result;
+            } catch (KeyTakenException e) {
+                outcome = loadStored(id);
+                if (outcome != null) {
+                    completed.put(id, outcome);
+                    return replay(outcome, requestHash, responseType);
+                }
+            } finally {
+                inFlight.remove(id, mine);
+                mine.complete(outcome);
+            }
+        }
+    }
+
+    private <T> T runAndStore(IdempotencyRecord record, Callable<T> action) throws Exception {
+        try {
+            return transactionTemplate.execute(status -> {
+                try {
+                    idempotencyRecordRepository.saveAndFlush(record);
+                } catch (DataIntegrityViolationException e) {
+                    throw new KeyTakenException();
+                }
+                try {
+                    T result = action.call();
+                    record.setResponseBody(objectMapper.writeValueAsString(result));
+                    return result;
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CheckedActionException(e);
+                }
+            });
+        } catch (CheckedActionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    /**
+     * Reads the response another node stored for {@code id}. An expired row is
+     * purged (together with all other expired rows) and treated as absent.
+     */
+    private StoredResponse loadStored(String id) {
+        LocalDateTime now = LocalDateTime.now();
+        StoredResponse stored = idempotencyRecordRepository.findById(id)
+                .map(record -> new StoredResponse(record.getRequestHash(), record.getResponseBody(), record.getExpiresAt()))
+                .orElse(null);
+        if (stored != null && stored.isExpired(now)) {
+            transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(now));
+            return null;
+        }
+        return stored;
+    }
+
+    private StoredResponse findCompleted(String id) {
+        StoredResponse stored = completed.get(id);
+        if (stored != null && stored.isExpired(LocalDateTime.now())) {
+            completed.remove(id, stored);
+            return null;
+        }
+        return stored;
+    }
+
+    private StoredResponse awaitInFlight(CompletableFuture<StoredResponse> running) throws InterruptedException {
+        try {
+            return running.get(IN_FLIGHT_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ConflictException("A request with this " + HEADER + " is still being processed");
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private <T> T replay(StoredResponse stored, String requestHash, Class<T> responseType) throws Exception {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new BadRequestException(HEADER + " was already used for a different request");
+        }
+        return objectMapper.readerFor(responseType)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(stored.body());
+    }
+
+    private IdempotencyRecord newRecord(String id, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(id);
+        record.setRequestHash(requestHash);
+        record.setCreatedAt(now);
+        record.setExpiresAt(now.plus(ttl));
+        return record;
+    }
+
+    /**
+     * Deletes expired rows, at most once per purge interval across all callers
+     * on this node. Failures are logged; the next interval tries again.
+     */
+    private void purgeExpiredIfDue() {
+        long now = System.currentTimeMillis();
+        long due = nextPurgeAt.get();
+        if (now < due || !nextPurgeAt.compareAndSet(due, now + purgeInterval.toMillis())) {
+            return;
+        }
+        try {
+            Integer removed = transactionTemplate.execute(status ->
+                    idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+            log.debug("Purged {} expired idempotency keys", removed);
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge expired idempotency keys", e);
+        }
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.laundry.service.impl;
 
+import com.laundry.config.MetricsConfig;
 import com.laundry.entity.Order;
 import com.laundry.repository.OrderRepository;
 import com.laundry.service.OrderReportService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +15,7 @@ import java.util.List;
 
 @Service
 @Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class OrderReportServiceImpl implements OrderReportService {
 
     private final OrderRepository orderRepository;
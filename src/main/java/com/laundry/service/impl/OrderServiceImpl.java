@@ -1,36 +1,132 @@
 package com.laundry.service.impl;
 
+import com.google.zxing.WriterException;
+import com.laundry.config.MetricsConfig;
+import com.laundry.dto.CursorPageResponseDto;
+import com.laundry.dto.OrderBatchItemResultDto;
+import com.laundry.dto.OrderBatchPrintRequestDto;
+import com.laundry.dto.OrderBatchPrintResponseDto;
+import com.laundry.dto.OrderBatchRequestDto;
+import com.laundry.dto.OrderBatchResponseDto;
+import com.laundry.dto.OrderBulkAdvanceRequestDto;
+import com.laundry.dto.OrderBulkAdvanceResponseDto;
 import com.laundry.dto.OrderItemRequestDto;
 import com.laundry.dto.OrderRequestDto;
 import com.laundry.dto.OrderResponseDto;
+import com.laundry.dto.OrderSummaryResponseDto;
+import com.laundry.dto.ReceiptDto;
 import com.laundry.entity.*;
 import com.laundry.exception.AccessDeniedException;
+import com.laundry.exception.ApiBaseException;
 import com.laundry.exception.BadRequestException;
+import com.laundry.exception.ConflictException;
+import com.laundry.exception.InternalServerErrorException;
 import com.laundry.exception.NotFoundException;
+import com.laundry.exception.PreconditionFailedException;
 import com.laundry.helper.RoleGuard;
 import com.laundry.mapper.OrderMapper;
+import com.laundry.mapper.ReceiptMapper;
+import com.laundry.receipt.ReceiptFormat;
+import com.laundry.receipt.ReceiptRenderingService;
+import com.laundry.receipt.RenderedReceipt;
 import com.laundry.repository.*;
+import com.laundry.repository.projection.OrderStatusView;
+import com.laundry.repository.projection.OrderSummaryView;
 import com.laundry.service.OrderService;
+import com.laundry.util.KeysetCursor;
+import com.laundry.util.MoneyUtil;
 import com.laundry.util.OrderUtil;
+import com.laundry.util.PageUtil;
+import com.laundry.util.ReferenceNoUtil;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.Pageable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.laundry.specification.OrderSpecification;
 
 import java.awt.print.PrinterException;
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @org.springframework.stereotype.Service
 @Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class OrderServiceImpl implements OrderService {
 
+    /**
+     * Sort used by keyset pagination. {@code id} breaks ties between orders
+     * created in the same instant so every row has a unique position.
+     */
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    /**
+     * Upper bound on the number of orders accepted by a single
+     * {@link #createOrders(OrderBatchRequestDto, Long, String)} call.
+     */
+    private static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * Upper bound on the number of orders moved by a single
+     * {@link #advanceOrderStatuses(OrderBulkAdvanceRequestDto, Long, String)} call.
+     */
+    private static final int MAX_BULK_ADVANCE_SIZE = 500;
+
+    /**
+     * How often {@link #advanceOrderStatus(Long, Long, Long, String)} retries
+     * after losing an optimistic locking race before giving up with a 409.
+     */
+    private static final int MAX_ADVANCE_ATTEMPTS = 3;
+
+    /**
+     * Upper bound on the number of receipts in a single batch print job.
+     */
+    private static final int MAX_BATCH_PRINT_SIZE = 500;
+
+    /**
+     * Lookup key for a service price in a given currency.
+     */
+    private record PriceKey(Long serviceId, String currencyCode) {
+    }
+
+    /**
+     * The status change a single-order advance was asked to make, fixed on
+     * the first attempt so a retry never moves the order a second step.
+     */
+    private record StatusTransition(OrderStatus from, OrderStatus to) {
+    }
+
+    /**
+     * Receipts of a batch print in page order, and the requested ids that do not exist.
+     */
+    private record ReceiptBatch(List<ReceiptDto> receipts, List<Long> notFound) {
+    }
+
     private final OrderRepository orderRepository;
 
     private final UserRepository userRepository;
@@ -45,8 +141,20 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderPSHistoryRepository orderPSHistoryRepository;
 
+    private final OrderItemRepository orderItemRepository;
+
     private final QrCodePrintingService qrCodePrintingService;
 
+    private final ReceiptPrintQueue receiptPrintQueue;
+
+    private final ReceiptRenderingService receiptRenderingService;
+
+    private final ReferenceNoAllocator referenceNoAllocator;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
     public OrderServiceImpl(OrderRepository orderRepository,
                             UserRepository userRepository,
                             ServiceRepository serviceRepository,
@@ -54,7 +162,12 @@ public class OrderServiceImpl implements OrderService {
                             OrderSHistoryRepository orderSHistoryRepository,
                             ProductRepository productRepository,
                             OrderPSHistoryRepository orderPSHistoryRepository,
-                            QrCodePrintingService qrCodePrintingService) {
+                            OrderItemRepository orderItemRepository,
+                            QrCodePrintingService qrCodePrintingService,
+                            ReceiptPrintQueue receiptPrintQueue,
+                            ReceiptRenderingService receiptRenderingService,
+                            ReferenceNoAllocator referenceNoAllocator,
+                            PlatformTransactionManager transactionManager) {
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
         this.serviceRepository = serviceRepository;
@@ -62,7 +175,14 @@ public class OrderServiceImpl implements OrderService {
         this.orderSHistoryRepository = orderSHistoryRepository;
         this.productRepository = productRepository;
         this.orderPSHistoryRepository = orderPSHistoryRepository;
+        this.orderItemRepository = orderItemRepository;
         this.qrCodePrintingService = qrCodePrintingService;
+        this.receiptPrintQueue = receiptPrintQueue;
+        this.receiptRenderingService = receiptRenderingService;
+        this.referenceNoAllocator = referenceNoAllocator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     @Override
@@ -82,53 +202,19 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new NotFoundException("Product not found: " + requestDto.getProductId()));
 
         Order order = OrderMapper.toEntity(requestDto, user, product, foundServices);
-
-        if (order.getStatus() == null) {
-            order.setStatus(OrderStatus.PENDING);
-        }
-        if (order.getPaymentStatus() == null) {
-            order.setPaymentStatus(PaymentStatus.PENDING);
-        }
-        if (order.getCurrencyCode() == null || order.getCurrencyCode().trim().isBlank()) {
-            order.setCurrencyCode("TRY");
-        }
+        applyCreateDefaults(order);
 
         autoCalculateItemPrices(order);
-        order.setTotalAmount(OrderUtil.computeOrderItemsTotal(order.getOrderItems()));
-
-        LocalDateTime createdDate = LocalDateTime.now();
-        int year = createdDate.getYear() % 100;
-        String month = String.format("%02d", createdDate.getMonthValue());
-        String day = String.format("%02d", createdDate.getDayOfMonth());
-
-        LocalDateTime orderDate = createdDate.toLocalDate().atStartOfDay();
-        LocalDateTime startOfDay = orderDate.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = orderDate.plusDays(1).toLocalDate().atStartOfDay();
-
-        long dailyOrderCount = orderRepository.countByCreatedAtBetween(startOfDay, endOfDay);
-        String sequence = String.format("%05d", dailyOrderCount + 1);
-        String referenceNumber = String.format("%02d%s%s%s", year, month, day, sequence);
+        order.setTotalAmount(OrderUtil.computeOrderItemsTotal(order.getOrderItems(), order.getCurrencyCode()));
 
+        String referenceNumber = nextReferenceNumber(LocalDate.now());
 
         order.setReferenceNo(referenceNumber);
         orderRepository.save(order);
 
         try {
-            String displayName = user.getDisplayName();
-            String serviceType = buildServiceTypeString(order);
-            String weight = getTotalWeightAsString(order);
-            int quantity = getTotalItemCount(order);
-
-            qrCodePrintingService.printReceipt(
-                    referenceNumber,
-                    displayName,
-                    order.getProduct().getName(),
-                    serviceType,
-                    weight,
-                    quantity,
-                    order.getCreatedAt().toString()
-            );
-        } catch (PrinterException | IOException e) {
+            qrCodePrintingService.printReceipt(ReceiptMapper.toReceipt(order));
+        } catch (PrinterException e) {
             e.printStackTrace();
         } catch (Exception e) {
             throw new Exception(e);
@@ -137,24 +223,108 @@ public class OrderServiceImpl implements OrderService {
         return OrderMapper.toResponseDto(order);
     }
 
+    @Override
+    public OrderBatchResponseDto createOrders(OrderBatchRequestDto requestDto,
+                                              Long currentUserId,
+                                              String currentUserRole)
+            throws AccessDeniedException, BadRequestException {
+
+        RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to create an order");
+
+        List<OrderRequestDto> requests = requestDto.getOrders();
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("At least one order is required");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("A batch may contain at most " + MAX_BATCH_SIZE + " orders");
+        }
+
+        Map<Long, User> users = userRepository.findAllById(distinctIds(requests, OrderRequestDto::getUserId)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Product> products = productRepository.findAllById(distinctIds(requests, OrderRequestDto::getProductId)).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Service> services = serviceRepository.findAllById(requests.stream()
+                .filter(request -> request.getOrderItems() != null)
+                .flatMap(request -> request.getOrderItems().stream())
+                .map(OrderItemRequestDto::getServiceId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+        Set<Long> knownServiceIds = services.stream().map(Service::getId).collect(Collectors.toSet());
+
+        Order[] orders = new Order[requests.size()];
+        String[] errors = new String[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                orders[i] = buildBatchOrder(requests.get(i), users, products, services, knownServiceIds);
+            } catch (ApiBaseException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        Map<PriceKey, ServicePrice> prices = findPricesForUnpricedItems(orders);
+        for (int i = 0; i < orders.length; i++) {
+            if (orders[i] == null) {
+                continue;
+            }
+            try {
+                applyBatchPrices(orders[i], prices);
+                orders[i].setTotalAmount(OrderUtil.computeOrderItemsTotal(orders[i].getOrderItems(), orders[i].getCurrencyCode()));
+            } catch (ApiBaseException e) {
+                errors[i] = e.getMessage();
+                orders[i] = null;
+            }
+        }
+
+        List<Order> accepted = Arrays.stream(orders).filter(Objects::nonNull).toList();
+        if (!accepted.isEmpty()) {
+            LocalDate today = LocalDate.now();
+            long sequence = referenceNoAllocator.reserve(today, accepted.size());
+            for (Order order : accepted) {
+                order.setReferenceNo(ReferenceNoUtil.format(today, sequence++));
+            }
+            orderRepository.saveAll(accepted);
+            receiptPrintQueue.enqueueAfterCommit(accepted.stream().map(ReceiptMapper::toReceipt).toList());
+        }
+
+        List<OrderBatchItemResultDto> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(OrderBatchItemResultDto.builder()
+                    .index(i)
+                    .created(orders[i] != null)
+                    .order(OrderMapper.toResponseDto(orders[i]))
+                    .error(errors[i])
+                    .build());
+        }
+
+        return OrderBatchResponseDto.builder()
+                .requested(requests.size())
+                .created(accepted.size())
+                .failed(requests.size() - accepted.size())
+                .results(results)
+                .build();
+    }
+
     @Override
     public OrderResponseDto updateOrder(Long id,
                                         OrderRequestDto requestDto,
+                                        Long expectedVersion,
                                         Long currentUserId,
                                         String currentUserRole)
             throws NotFoundException, AccessDeniedException, BadRequestException {
 
         Order existing = getExistingOrder(id);
         RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to update this order");
+        requireVersion(existing, expectedVersion);
 
         List<Long> serviceIds = extractServiceIds(requestDto);
         List<Service> foundServices = serviceRepository.findAllById(extractServiceIds(requestDto));
 
         updateEntity(existing, requestDto, foundServices, currentUserId);
         autoCalculateItemPrices(existing);
-        existing.setTotalAmount(OrderUtil.computeOrderItemsTotal(existing.getOrderItems()));
+        existing.setTotalAmount(OrderUtil.computeOrderItemsTotal(existing.getOrderItems(), existing.getCurrencyCode()));
 
-        orderRepository.save(existing);
+        orderRepository.saveAndFlush(existing);
 
         return OrderMapper.toResponseDto(existing);
     }
@@ -162,17 +332,19 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public OrderResponseDto patchOrder(Long id,
                                        OrderRequestDto requestDto,
+                                       Long expectedVersion,
                                        Long currentUserId,
                                        String currentUserRole) {
         Order existing = getExistingOrder(id);
         RoleGuard.requireAdminRole(currentUserRole, "No permission to patch this order");
+        requireVersion(existing, expectedVersion);
         List<Service> foundServices = serviceRepository.findAllById(extractServiceIds(requestDto));
 
         patchEntity(existing, requestDto, foundServices, currentUserId);
         autoCalculateItemPrices(existing);
-        existing.setTotalAmount(OrderUtil.computeOrderItemsTotal(existing.getOrderItems()));
+        existing.setTotalAmount(OrderUtil.computeOrderItemsTotal(existing.getOrderItems(), existing.getCurrencyCode()));
 
-        orderRepository.save(existing);
+        orderRepository.saveAndFlush(existing);
         return OrderMapper.toResponseDto(existing);
     }
 
@@ -192,13 +364,38 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponseDto> getAllOrders(Long currentUserId, String currentUserRole)
+    public CursorPageResponseDto<OrderSummaryResponseDto> getOrders(String cursor,
+                                                                    Integer size,
+                                                                    Long currentUserId,
+                                                                    String currentUserRole)
             throws AccessDeniedException {
 
         RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to view all orders");
-        return orderRepository.findAll().stream()
-                .map(OrderMapper::toResponseDto)
-                .collect(Collectors.toList());
+
+        int pageSize = PageUtil.resolvePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        // Fetch one extra row to learn whether another page exists
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<OrderSummaryView> rows = (after == null)
+                ? orderRepository.findSummaries(limit)
+                : orderRepository.findSummariesAfter(after.createdAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummaryView> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryView last = pageRows.getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDto.<OrderSummaryResponseDto>builder()
+                .items(pageRows.stream().map(OrderMapper::toSummaryDto).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Override
@@ -213,52 +410,153 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderResponseDto advanceOrderStatus(Long orderId,
+                                               Long expectedVersion,
                                                Long currentUserId,
                                                String currentUserRole)
             throws NotFoundException, AccessDeniedException, BadRequestException {
 
         RoleGuard.requireAdminRole(currentUserRole, "Only admin can change order status");
 
+        AtomicReference<StatusTransition> transition = new AtomicReference<>();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        advanceOnce(orderId, expectedVersion, transition, currentUserId));
+            } catch (OptimisticLockingFailureException e) {
+                // With If-Match the client asked for exactly that version; let it re-read.
+                if (expectedVersion != null || attempt >= MAX_ADVANCE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Order {} changed concurrently, retrying advance (attempt {})", orderId, attempt + 1);
+            }
+        }
+    }
+
+    /**
+     * One attempt of {@link #advanceOrderStatus}. The first attempt decides the
+     * transition; a retry that finds the order already at the target status
+     * returns it unchanged, so a lost race never writes a second history row.
+     */
+    private OrderResponseDto advanceOnce(Long orderId,
+                                         Long expectedVersion,
+                                         AtomicReference<StatusTransition> transition,
+                                         Long currentUserId) {
         Order order = getExistingOrder(orderId);
-        OrderStatus currentStatus = order.getStatus();
-        OrderStatus nextStatus;
+        requireVersion(order, expectedVersion);
 
-        switch (currentStatus) {
-            case PENDING -> {
-                order.setStatus(OrderStatus.IN_PROGRESS);
-                nextStatus = OrderStatus.IN_PROGRESS;
-            }
-            case IN_PROGRESS -> {
-                order.setStatus(OrderStatus.COMPLETED);
-                nextStatus = OrderStatus.COMPLETED;
-            }
-            case COMPLETED -> {
-                order.setStatus(OrderStatus.DELIVERED);
-                nextStatus = OrderStatus.DELIVERED;
-            }
-            case DELIVERED -> {
-                throw new BadRequestException("Order is already DELIVERED. No further status change possible.");
-            }
-            default -> {
-                throw new BadRequestException("Cannot advance from status: " + currentStatus);
-            }
+        OrderStatus currentStatus = order.getStatus();
+        StatusTransition step = transition.get();
+        if (step == null) {
+            step = new StatusTransition(currentStatus, OrderUtil.nextStatus(currentStatus));
+            transition.set(step);
+        } else if (currentStatus == step.to()) {
+            return OrderMapper.toResponseDto(order);
+        } else if (currentStatus != step.from()) {
+            throw new ConflictException("Order " + orderId + " was moved to " + currentStatus
+                    + " while advancing it from " + step.from());
         }
+        order.setStatus(step.to());
 
         // Record this status transition
         OrderStatusHistory orderStatusHistory = new OrderStatusHistory();
         orderStatusHistory.setOrder(order);
-        orderStatusHistory.setOldStatus(currentStatus);
-        orderStatusHistory.setNewStatus(nextStatus);
+        orderStatusHistory.setOldStatus(step.from());
+        orderStatusHistory.setNewStatus(step.to());
         orderStatusHistory.setChangedAt(LocalDateTime.now());
         orderStatusHistory.setChangedBy(currentUserId);
 
-        orderRepository.save(order);
+        orderRepository.saveAndFlush(order);
         orderSHistoryRepository.save(orderStatusHistory);
 
         return OrderMapper.toResponseDto(order);
     }
 
+    @Override
+    public OrderBulkAdvanceResponseDto advanceOrderStatuses(OrderBulkAdvanceRequestDto requestDto,
+                                                            Long currentUserId,
+                                                            String currentUserRole)
+            throws AccessDeniedException, BadRequestException {
+
+        RoleGuard.requireAdminRole(currentUserRole, "Only admin can change order status");
+
+        if (requestDto.getFromStatus() == null || requestDto.getFromStatus().isBlank()) {
+            throw new BadRequestException("From status is required");
+        }
+        OrderStatus from = OrderUtil.parseOrderStatus(requestDto.getFromStatus());
+        OrderStatus to = OrderUtil.nextStatus(from);
+        if (requestDto.getToStatus() != null && OrderUtil.parseOrderStatus(requestDto.getToStatus()) != to) {
+            throw new BadRequestException("Cannot advance from " + from + " to " + requestDto.getToStatus()
+                    + "; the next status is " + to);
+        }
+
+        List<Long> lockedIds;
+        List<OrderBulkAdvanceResponseDto.Skipped> skipped = new ArrayList<>();
+        boolean hasMore = false;
+
+        List<Long> requestedIds = requestDto.getOrderIds();
+        boolean byIds = requestedIds != null && !requestedIds.isEmpty();
+        if (!byIds && requestDto.getUserId() == null
+                && requestDto.getStartDate() == null && requestDto.getEndDate() == null) {
+            throw new BadRequestException("Either order ids or a user or date filter is required");
+        }
+        if (byIds) {
+            List<Long> ids = requestedIds.stream().filter(Objects::nonNull).distinct().toList();
+            if (ids.size() > MAX_BULK_ADVANCE_SIZE) {
+                throw new BadRequestException("At most " + MAX_BULK_ADVANCE_SIZE + " orders can be advanced at once");
+            }
+
+            lockedIds = orderRepository.lockIdsInStatus(ids, from);
+
+            Set<Long> locked = new HashSet<>(lockedIds);
+            List<Long> others = ids.stream().filter(id -> !locked.contains(id)).toList();
+            if (!others.isEmpty()) {
+                Map<Long, OrderStatus> statuses = orderRepository.findStatusesByIdIn(others).stream()
+                        .collect(Collectors.toMap(OrderStatusView::getId, OrderStatusView::getStatus));
+                for (Long id : others) {
+                    OrderStatus status = statuses.get(id);
+                    skipped.add(OrderBulkAdvanceResponseDto.Skipped.builder()
+                            .orderId(id)
+                            .reason(status == null ? "Order not found" : "Order is " + status + ", not " + from)
+                            .build());
+                }
+            }
+        } else {
+            lockedIds = orderRepository.lockIdsInStatusMatching(from, requestDto.getUserId(),
+                    requestDto.getStartDate(), requestDto.getEndDate(),
+                    PageRequest.ofSize(MAX_BULK_ADVANCE_SIZE + 1));
+            if (lockedIds.size() > MAX_BULK_ADVANCE_SIZE) {
+                hasMore = true;
+                lockedIds = lockedIds.subList(0, MAX_BULK_ADVANCE_SIZE);
+            }
+        }
+
+        if (!lockedIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            orderRepository.updateStatus(lockedIds, from, to, now);
+
+            List<OrderStatusHistory> history = new ArrayList<>(lockedIds.size());
+            for (Long id : lockedIds) {
+                OrderStatusHistory entry = new OrderStatusHistory();
+                entry.setOrder(orderRepository.getReferenceById(id));
+                entry.setOldStatus(from);
+                entry.setNewStatus(to);
+                entry.setChangedAt(now);
+                entry.setChangedBy(currentUserId);
+                history.add(entry);
+            }
+            orderSHistoryRepository.saveAll(history);
+        }
+
+        return OrderBulkAdvanceResponseDto.builder()
+                .fromStatus(from.name())
+                .toStatus(to.name())
+                .advanced(lockedIds)
+                .skipped(skipped)
+                .hasMore(hasMore)
+                .build();
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -271,10 +569,196 @@ public class OrderServiceImpl implements OrderService {
                                                String keyword,
                                                Pageable pageable) {
 
+        Specification<Order> spec = buildSearchSpecification(
+                userId, status, startDate, endDate, minAmount, maxAmount, keyword);
+        Page<Order> orders = orderRepository.findAll(spec, pageable);
+        return new PageImpl<>(toResponseDtos(orders.getContent()), orders.getPageable(), orders.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<OrderResponseDto> searchOrdersByCursor(Long userId,
+                                                                        OrderStatus status,
+                                                                        LocalDateTime startDate,
+                                                                        LocalDateTime endDate,
+                                                                        BigDecimal minAmount,
+                                                                        BigDecimal maxAmount,
+                                                                        String keyword,
+                                                                        String cursor,
+                                                                        Integer size,
+                                                                        boolean includeTotal) {
+
+        Specification<Order> spec = buildSearchSpecification(
+                userId, status, startDate, endDate, minAmount, maxAmount, keyword);
+
+        int pageSize = PageUtil.resolvePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        KeysetScrollPosition position = (after == null)
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(Map.of("createdAt", after.createdAt(), "id", after.id()));
+
+        Window<Order> window = orderRepository.findBy(spec, query -> query
+                .sortBy(KEYSET_SORT)
+                .limit(pageSize)
+                .scroll(position));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            Order last = window.getContent().getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDto.<OrderResponseDto>builder()
+                .items(toResponseDtos(window.getContent()))
+                .size(pageSize)
+                .hasNext(window.hasNext())
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? orderRepository.count(spec) : null)
+                .build();
+    }
+
+    @Override
+    public void printOrder(Long orderId, Long currentUserId, String currentUserRole) throws Exception {
+        RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to print this order");
+
+        Order order = getExistingOrder(orderId);
+
+        ReceiptDto receipt = ReceiptMapper.toReceipt(order);
+
+        try {
+            qrCodePrintingService.printReceipt(receipt);
+        } catch (Exception e) {
+            throw new Exception("Error printing order: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderBatchPrintResponseDto printOrders(OrderBatchPrintRequestDto requestDto,
+                                                  Long currentUserId,
+                                                  String currentUserRole) throws Exception {
+        RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to print orders");
+
+        ReceiptBatch batch = loadReceiptBatch(requestDto);
+
+        try {
+            qrCodePrintingService.printReceipts(batch.receipts());
+        } catch (Exception e) {
+            throw new Exception("Error printing orders: " + e.getMessage(), e);
+        }
+
+        return OrderBatchPrintResponseDto.builder()
+                .printed(batch.receipts().stream().map(ReceiptDto::getReferenceNo).toList())
+                .notFound(batch.notFound())
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public byte[] renderOrderReceipts(OrderBatchPrintRequestDto requestDto,
+                                      Long currentUserId,
+                                      String currentUserRole)
+            throws NotFoundException, AccessDeniedException, BadRequestException {
+        RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to print orders");
+
+        ReceiptBatch batch = loadReceiptBatch(requestDto);
+        if (batch.receipts().isEmpty()) {
+            throw new NotFoundException("No orders found to print");
+        }
+
+        try {
+            return receiptRenderingService.renderPdf(batch.receipts());
+        } catch (WriterException | IOException e) {
+            log.error("Failed to render {} receipts", batch.receipts().size(), e);
+            throw new InternalServerErrorException("Failed to render receipts");
+        }
+    }
+
+    /**
+     * Resolves the orders of a batch print and captures their receipts in one
+     * short read-only transaction, so no connection is held while printing.
+     * All orders are loaded with their receipt data in a single query.
+     */
+    private ReceiptBatch loadReceiptBatch(OrderBatchPrintRequestDto requestDto) throws BadRequestException {
+        List<Long> requestedIds = requestDto.getOrderIds();
+        boolean byIds = requestedIds != null && !requestedIds.isEmpty();
+        if (!byIds && (requestDto.getStartDate() == null || requestDto.getEndDate() == null)) {
+            throw new BadRequestException("Either order ids or a start and end date are required");
+        }
+        if (byIds && requestedIds.stream().filter(Objects::nonNull).distinct().count() > MAX_BATCH_PRINT_SIZE) {
+            throw new BadRequestException("At most " + MAX_BATCH_PRINT_SIZE + " orders can be printed at once");
+        }
+
+        return readOnlyTransactionTemplate.execute(status -> {
+            List<Long> ids;
+            if (byIds) {
+                ids = requestedIds.stream().filter(Objects::nonNull).distinct().toList();
+            } else {
+                ids = orderRepository.findIdsCreatedBetween(requestDto.getStartDate(), requestDto.getEndDate(),
+                        PageRequest.ofSize(MAX_BATCH_PRINT_SIZE + 1));
+                if (ids.size() > MAX_BATCH_PRINT_SIZE) {
+                    throw new BadRequestException("More than " + MAX_BATCH_PRINT_SIZE
+                            + " orders were created in this date range; print it in smaller ranges");
+                }
+            }
+            if (ids.isEmpty()) {
+                return new ReceiptBatch(List.of(), List.of());
+            }
+
+            Map<Long, Order> orders = orderRepository.findWithReceiptDataByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Order::getId, Function.identity()));
+            List<ReceiptDto> receipts = new ArrayList<>(orders.size());
+            List<Long> notFound = new ArrayList<>();
+            for (Long id : ids) {
+                Order order = orders.get(id);
+                if (order == null) {
+                    notFound.add(id);
+                } else {
+                    receipts.add(ReceiptMapper.toReceipt(order));
+                }
+            }
+            return new ReceiptBatch(receipts, notFound);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RenderedReceipt getReceipt(Long orderId,
+                                      ReceiptFormat format,
+                                      Long currentUserId,
+                                      String currentUserRole)
+            throws NotFoundException, AccessDeniedException {
+        RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to view this receipt");
+
+        Order order = getExistingOrder(orderId);
+
+        try {
+            return receiptRenderingService.render(ReceiptMapper.toReceipt(order), format);
+        } catch (WriterException | IOException e) {
+            log.error("Failed to render receipt of order {}", orderId, e);
+            throw new InternalServerErrorException("Failed to render receipt");
+        }
+    }
+
+    /**
+     * Combines the {@link OrderSpecification} predicates for every search
+     * filter that was provided. Date and amount ranges are only applied when
+     * both bounds are present.
+     *
+     * @return a specification matching all provided filters
+     * @throws BadRequestException if {@code keyword} is nothing but {@code *} wildcards
+     */
+    private Specification<Order> buildSearchSpecification(Long userId,
+                                                          OrderStatus status,
+                                                          LocalDateTime startDate,
+                                                          LocalDateTime endDate,
+                                                          BigDecimal minAmount,
+                                                          BigDecimal maxAmount,
+                                                          String keyword) {
         Specification<Order> spec = Specification.where(null);
 
         if (userId != null) {
-            spec = spec.and(com.laundry.specification.OrderSpecification.hasUserId(userId));
+            spec = spec.and(OrderSpecification.hasUserId(userId));
         }
         if (status != null) {
             spec = spec.and(OrderSpecification.hasStatus(status));
@@ -286,38 +770,30 @@ public class OrderServiceImpl implements OrderService {
             spec = spec.and(OrderSpecification.totalAmountBetween(minAmount, maxAmount));
         }
         if (keyword != null && !keyword.isBlank()) {
-            spec = spec.and(OrderSpecification.referenceNoContains(keyword));
+            if (ReferenceNoUtil.stripWildcards(keyword.trim()).isEmpty()) {
+                throw new BadRequestException("Keyword must contain more than wildcards");
+            }
+            spec = spec.and(OrderSpecification.referenceNoMatches(keyword));
         }
-        Page<Order> orders = orderRepository.findAll(spec, pageable);
-        return orders.map(OrderMapper::toResponseDto);
+        return spec;
     }
 
-    @Override
-    public void printOrder(Long orderId, Long currentUserId, String currentUserRole) throws Exception {
-        RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to print this order");
-
-        Order order = getExistingOrder(orderId);
+    /**
+     * Maps a page of orders to DTOs with one extra query for all of their items,
+     * instead of initializing each order's lazy item collection in turn.
+     */
+    private List<OrderResponseDto> toResponseDtos(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
 
-        String displayName = order.getUser().getDisplayName();
-        String productType = order.getProduct().getName();
-        String servicesString = buildServiceTypeString(order);
-        String weight = getTotalWeightAsString(order);
-        int quantity = getTotalItemCount(order);
-        String orderDate = order.getCreatedAt().toString();
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findByOrderIds(orderIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
 
-        try {
-            qrCodePrintingService.printReceipt(
-                    order.getReferenceNo(),
-                    displayName,
-                    productType,
-                    servicesString,
-                    weight,
-                    quantity,
-                    orderDate
-            );
-        } catch (Exception e) {
-            throw new Exception("Error printing order: " + e.getMessage(), e);
-        }
+        return orders.stream()
+                .map(order -> OrderMapper.toResponseDto(order, itemsByOrderId.getOrDefault(order.getId(), List.of())))
+                .toList();
     }
 
     /**
@@ -333,6 +809,124 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new NotFoundException("Order not found with id: " + id));
     }
 
+    /**
+     * Checks the version sent by the client in {@code If-Match} against the
+     * loaded order. A {@code null} expected version skips the check.
+     *
+     * @throws PreconditionFailedException if the order has changed since the client read it
+     */
+    private void requireVersion(Order order, Long expectedVersion) throws PreconditionFailedException {
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+            throw new PreconditionFailedException("Order " + order.getId() + " has changed: expected version "
+                    + expectedVersion + " but found " + order.getVersion());
+        }
+    }
+
+    /**
+     * Returns the next free reference number for the given day, drawn from the
+     * day's counter row so concurrent creates never get the same number.
+     *
+     * @param date the order date
+     * @return the next reference number for {@code date}
+     * @throws ConflictException if the day's reference numbers are exhausted
+     */
+    private String nextReferenceNumber(LocalDate date) {
+        return ReferenceNoUtil.format(date, referenceNoAllocator.reserve(date, 1));
+    }
+
+    /**
+     * Builds one order of a batch from lookups that were already loaded for
+     * the whole batch. Item prices are filled in later by
+     * {@link #applyBatchPrices(Order, Map)}.
+     *
+     * @throws NotFoundException if the user or product does not exist
+     * @throws BadRequestException if an item is incomplete or refers to an unknown service
+     */
+    private Order buildBatchOrder(OrderRequestDto requestDto,
+                                  Map<Long, User> users,
+                                  Map<Long, Product> products,
+                                  List<Service> services,
+                                  Set<Long> knownServiceIds) {
+        User user = users.get(requestDto.getUserId());
+        if (user == null) {
+            throw new NotFoundException("User not found: " + requestDto.getUserId());
+        }
+        Product product = products.get(requestDto.getProductId());
+        if (product == null) {
+            throw new NotFoundException("Product not found: " + requestDto.getProductId());
+        }
+        if (requestDto.getOrderItems() != null) {
+            for (OrderItemRequestDto item : requestDto.getOrderItems()) {
+                if (!knownServiceIds.contains(item.getServiceId())) {
+                    throw new BadRequestException("Service not found: " + item.getServiceId());
+                }
+                if (item.getQuantity() == null || item.getWeight() == null) {
+                    throw new BadRequestException("Quantity and weight are required for service " + item.getServiceId());
+                }
+            }
+        }
+
+        Order order = OrderMapper.toEntity(requestDto, user, product, services);
+        applyCreateDefaults(order);
+        return order;
+    }
+
+    /**
+     * Loads, in one query, the service prices needed by every unpriced item of
+     * the given batch orders, keyed by service and currency. {@code null}
+     * entries (rejected orders) are skipped.
+     */
+    private Map<PriceKey, ServicePrice> findPricesForUnpricedItems(Order[] orders) {
+        Set<Long> serviceIds = new HashSet<>();
+        Set<String> currencyCodes = new HashSet<>();
+        for (Order order : orders) {
+            if (order == null) {
+                continue;
+            }
+            for (OrderItem item : order.getOrderItems()) {
+                if (item.getPriceAmount() == null) {
+                    serviceIds.add(item.getService().getId());
+                    currencyCodes.add(order.getCurrencyCode());
+                }
+            }
+        }
+        if (serviceIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return servicePriceRepository.findByServiceIdInAndCurrencyCodeIn(serviceIds, currencyCodes).stream()
+                .collect(Collectors.toMap(
+                        sp -> new PriceKey(sp.getService().getId(), sp.getCurrencyCode()),
+                        Function.identity()));
+    }
+
+    /**
+     * Batch counterpart of {@link #autoCalculateItemPrices(Order)} that reads
+     * service prices from {@code prices} instead of querying per item.
+     *
+     * @throws BadRequestException if an unpriced item has no price in the order's currency
+     */
+    private void applyBatchPrices(Order order, Map<PriceKey, ServicePrice> prices) {
+        for (OrderItem item : order.getOrderItems()) {
+            if (item.getPriceAmount() == null) {
+                ServicePrice sp = prices.get(new PriceKey(item.getService().getId(), order.getCurrencyCode()));
+                if (sp == null) {
+                    throw new BadRequestException("No ServicePrice for service=" + item.getService().getId()
+                            + " and currency=" + order.getCurrencyCode());
+                }
+                item.setPriceAmount(autoPrice(sp, item));
+            }
+        }
+    }
+
+    private static List<Long> distinctIds(List<OrderRequestDto> requests, Function<OrderRequestDto, Long> id) {
+        return requests.stream()
+                .map(id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
     /**
      * Extracts a distinct list of service IDs from the {@code orderItems}
      * in the provided {@link OrderRequestDto}, in order to perform batch
@@ -446,38 +1040,35 @@ public class OrderServiceImpl implements OrderService {
                                         + " and currency=" + order.getCurrencyCode()
                         ));
 
-                // Convert grams to kilograms
-                BigDecimal kg = BigDecimal.valueOf(item.getQuantity())
-                        .divide(BigDecimal.valueOf(1000), 3, RoundingMode.HALF_UP);
-
-                // Multiply service price by item weight
-                BigDecimal autoPrice = sp.getPrice()
-                        .multiply(kg)
-                        .setScale(2, RoundingMode.HALF_UP);
-
-                item.setPriceAmount(autoPrice);
+                item.setPriceAmount(autoPrice(sp, item));
             }
         }
     }
 
-    private String buildServiceTypeString(Order order) {
-        return order.getOrderItems().stream()
-                .map(item -> item.getService().getName())
-                .distinct()
-                .collect(Collectors.joining(", "));
-    }
-
-    private String getTotalWeightAsString(Order order) {
-        BigDecimal total = order.getOrderItems().stream()
-                .map(OrderItem::getWeight)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return total.toPlainString();
+    /**
+     * Price of {@code item} at the given unit price: the price per kilogram
+     * multiplied by the item's quantity in grams converted to kilograms,
+     * rounded to the minor units of the price's currency.
+     */
+    private static BigDecimal autoPrice(ServicePrice servicePrice, OrderItem item) {
+        return MoneyUtil.amountForGrams(servicePrice.getPrice(), item.getQuantity(),
+                MoneyUtil.currencyScale(servicePrice.getCurrencyCode()));
     }
 
-    private int getTotalItemCount(Order order) {
-        return order.getOrderItems().stream()
-                .mapToInt(OrderItem::getQuantity)
-                .sum();
+    /**
+     * Fills in the status, payment status and currency of a new order when the
+     * request left them out.
+     */
+    private static void applyCreateDefaults(Order order) {
+        if (order.getStatus() == null) {
+            order.setStatus(OrderStatus.PENDING);
+        }
+        if (order.getPaymentStatus() == null) {
+            order.setPaymentStatus(PaymentStatus.PENDING);
+        }
+        if (order.getCurrencyCode() == null || order.getCurrencyCode().trim().isBlank()) {
+            order.setCurrencyCode("TRY");
+        }
     }
 
 }
@@ -7,6 +7,7 @@ import com.laundry.exception.NotFoundException;
 import com.laundry.helper.RoleGuard;
 import com.laundry.mapper.ProductMapper;
 import com.laundry.repository.ProductRepository;
+import com.laundry.search.SearchIndexService;
 import com.laundry.service.ProductService;
 import com.laundry.specification.ProductSpecification;
 import org.springframework.data.domain.Page;
@@ -25,8 +26,11 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
 
-    public ProductServiceImpl(ProductRepository productRepository) {
+    private final SearchIndexService searchIndexService;
+
+    public ProductServiceImpl(ProductRepository productRepository, SearchIndexService searchIndexService) {
         this.productRepository = productRepository;
+        this.searchIndexService = searchIndexService;
     }
 
     @Override
@@ -35,6 +39,7 @@ public class ProductServiceImpl implements ProductService {
         ProductRequestDto normalizedDto = normalizeProductNameInDto(dto);
         Product product = ProductMapper.toEntity(normalizedDto);
         productRepository.save(product);
+        searchIndexService.indexProduct(product);
         return ProductMapper.toResponseDto(product);
     }
 
@@ -47,6 +52,7 @@ public class ProductServiceImpl implements ProductService {
         existing.setName(normalizedDto.getName());
         existing.setDescription(normalizedDto.getDescription());
         productRepository.save(existing);
+        searchIndexService.indexProduct(existing);
         return ProductMapper.toResponseDto(existing);
     }
 
@@ -73,6 +79,7 @@ public class ProductServiceImpl implements ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
         productRepository.delete(product);
+        searchIndexService.removeProduct(product.getId());
     }
 
     @Override
@@ -1,27 +1,178 @@
 package com.laundry.service.impl;
 
 import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.laundry.dto.QrCodeFormat;
+import com.laundry.dto.QrCodeImage;
+import com.laundry.exception.BadRequestException;
+import com.laundry.exception.InternalServerErrorException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * Encodes QR codes as PNG, SVG or a raw module matrix.
+ * <p>
+ * The writer and the encode hints (error correction level and quiet zone
+ * margin, from {@code app.qrcode.*}) are created once and shared; ZXing's
+ * writer is stateless. Generated codes are kept in an LRU of
+ * {@code app.qrcode.cache-size} entries keyed by text, size and format, and
+ * requested sizes are capped at {@code app.qrcode.max-size} pixels.
+ */
+@Slf4j
 @Service
 public class QrCodeGeneratorService {
 
+    private static final QRCodeWriter WRITER = new QRCodeWriter();
+
+    private record CacheKey(String text, int width, int height, QrCodeFormat format) {
+    }
+
+    private final Map<EncodeHintType, Object> hints;
+
+    private final ErrorCorrectionLevel errorCorrection;
+
+    private final int maxSize;
+
+    private final Map<CacheKey, QrCodeImage> cache;
+
+    public QrCodeGeneratorService(@Value("${app.qrcode.error-correction:L}") ErrorCorrectionLevel errorCorrection,
+                                  @Value("${app.qrcode.margin:4}") int margin,
+                                  @Value("${app.qrcode.max-size:1000}") int maxSize,
+                                  @Value("${app.qrcode.cache-size:1000}") int cacheSize) {
+        this.errorCorrection = errorCorrection;
+        this.hints = hints(errorCorrection, margin);
+        this.maxSize = maxSize;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, QrCodeImage> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Returns {@code text} as a QR code of about {@code width} x {@code height}
+     * pixels in {@code format}. PNG output is exactly that size; SVG scales
+     * to it; the matrix has one character per module. The code is never
+     * smaller than one pixel per module.
+     *
+     * @throws BadRequestException if a dimension is outside 1..{@code app.qrcode.max-size}
+     *                             or the text is too long for a QR code
+     */
+    public QrCodeImage generate(String text, int width, int height, QrCodeFormat format) {
+        if (width < 1 || height < 1 || width > maxSize || height > maxSize) {
+            throw new BadRequestException("QR code width and height must be between 1 and " + maxSize);
+        }
+        CacheKey key = new CacheKey(text, width, height, format);
+        QrCodeImage image = cache.get(key);
+        if (image == null) {
+            byte[] body = encode(text, width, height, format);
+            image = QrCodeImage.builder()
+                    .format(format)
+                    .etag(etagOf(body))
+                    .body(body)
+                    .build();
+            cache.put(key, image);
+        }
+        return image;
+    }
+
     public byte[] generateQRCodeImage(String text, int width, int height)
             throws WriterException, IOException {
-
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        BitMatrix bitMatrix = qrCodeWriter.encode(text, BarcodeFormat.QR_CODE, width, height);
+        BitMatrix bitMatrix = WRITER.encode(text, BarcodeFormat.QR_CODE, width, height, hints);
 
         ByteArrayOutputStream pngOutputStream = new ByteArrayOutputStream();
         MatrixToImageWriter.writeToStream(bitMatrix, "PNG", pngOutputStream);
 
         return pngOutputStream.toByteArray();
     }
-}
\ No newline at end of file
+
+    /**
+     * Encodes {@code text} at one unit per module, surrounded by a quiet zone
+     * of {@code margin} modules, for callers that draw the modules themselves.
+     */
+    public BitMatrix generateQRCodeMatrix(String text, int margin) throws WriterException {
+        return WRITER.encode(text, BarcodeFormat.QR_CODE, 0, 0, hints(errorCorrection, margin));
+    }
+
+    private byte[] encode(String text, int width, int height, QrCodeFormat format) {
+        try {
+            return switch (format) {
+                case PNG -> generateQRCodeImage(text, width, height);
+                case SVG -> toSvg(WRITER.encode(text, BarcodeFormat.QR_CODE, 0, 0, hints), width, height);
+                case MATRIX -> WRITER.encode(text, BarcodeFormat.QR_CODE, 0, 0, hints)
+                        .toString("1", "0")
+                        .getBytes(StandardCharsets.US_ASCII);
+            };
+        } catch (WriterException e) {
+            throw new BadRequestException("Text cannot be encoded as a QR code: " + e.getMessage());
+        } catch (IOException e) {
+            log.error("Failed to write QR code image", e);
+            throw new InternalServerErrorException("Failed to write QR code image");
+        }
+    }
+
+    /**
+     * Writes the matrix as an SVG with one path: a rectangle per horizontal
+     * run of dark modules, in a view box of one unit per module.
+     */
+    private static byte[] toSvg(BitMatrix matrix, int width, int height) {
+        int columns = matrix.getWidth();
+        int rows = matrix.getHeight();
+        StringBuilder svg = new StringBuilder(64 + columns * rows / 2);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(width)
+                .append("\" height=\"").append(height)
+                .append("\" viewBox=\"0 0 ").append(columns).append(' ').append(rows)
+                .append("\" shape-rendering=\"crispEdges\"><rect width=\"100%\" height=\"100%\" fill=\"#fff\"/><path d=\"");
+        for (int y = 0; y < rows; y++) {
+            int x = 0;
+            while (x < columns) {
+                if (!matrix.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int runStart = x;
+                while (x < columns && matrix.get(x, y)) {
+                    x++;
+                }
+                svg.append('M').append(runStart).append(' ').append(y)
+                        .append('h').append(x - runStart).append("v1h-").append(x - runStart).append('z');
+            }
+        }
+        svg.append("\"/></svg>");
+        return svg.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<EncodeHintType, Object> hints(ErrorCorrectionLevel errorCorrection, int margin) {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.ERROR_CORRECTION, errorCorrection);
+        hints.put(EncodeHintType.MARGIN, margin);
+        return Collections.unmodifiableMap(hints);
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.laundry.service.impl;
+
+import com.laundry.dto.ReceiptDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prints receipts one at a time on a background thread, so callers never wait
+ * on the printer. Receipts enqueued inside a transaction are only handed to the
+ * printer once that transaction commits; a rollback prints nothing.
+ * <p>
+ * Print failures are logged and do not affect the order that was created.
+ */
+@Slf4j
+@Service
+public class ReceiptPrintQueue {
+
+    private final QrCodePrintingService qrCodePrintingService;
+
+    private final ExecutorService printer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "receipt-printer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public ReceiptPrintQueue(QrCodePrintingService qrCodePrintingService) {
+        this.qrCodePrintingService = qrCodePrintingService;
+    }
+
+    /**
+     * Queues {@code receipts} for printing after the current transaction
+     * commits, or immediately when no transaction is active.
+     */
+    public void enqueueAfterCommit(List<ReceiptDto> receipts) {
+        if (receipts.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            receipts.forEach(this::enqueue);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                receipts.forEach(ReceiptPrintQueue.this::enqueue);
+            }
+        });
+    }
+
+    public void enqueue(ReceiptDto receipt) {
+        pending.incrementAndGet();
+        printer.execute(() -> {
+            try {
+                qrCodePrintingService.printReceipt(receipt);
+            } catch (Exception e) {
+                log.error("Failed to print receipt for order {}", receipt.getReferenceNo(), e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * @return the number of receipts queued or currently printing
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        printer.shutdown();
+        if (!printer.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Receipt printer stopped with {} receipts still queued", pending.get());
+            printer.shutdownNow();
+        }
+    }
+}
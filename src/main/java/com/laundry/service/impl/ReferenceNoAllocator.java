@@ -0,0 +1,92 @@
+package com.laundry.service.impl;
+
+import com.laundry.entity.OrderReferenceSequence;
+import com.laundry.exception.ConflictException;
+import com.laundry.repository.OrderReferenceSequenceRepository;
+import com.laundry.repository.OrderRepository;
+import com.laundry.util.ReferenceNoUtil;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Hands out daily sequences for order reference numbers from the
+ * {@code order_reference_sequences} table, one locked row per day.
+ * <p>
+ * A range is reserved in its own short transaction, like the pooled id
+ * generators do: the row lock is held only for the increment, not for the
+ * whole order creation, and a rolled back order leaves a gap in the numbering
+ * instead of a number that is handed out twice.
+ */
+@Service
+public class ReferenceNoAllocator {
+
+    private final OrderReferenceSequenceRepository sequenceRepository;
+
+    private final OrderRepository orderRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ReferenceNoAllocator(OrderReferenceSequenceRepository sequenceRepository,
+                                OrderRepository orderRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.sequenceRepository = sequenceRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Reserves {@code count} consecutive daily sequences on {@code date}.
+     *
+     * @param date  the order date
+     * @param count how many reference numbers to reserve, at least 1
+     * @return the first reserved sequence; the others follow it
+     * @throws ConflictException if the day has fewer than {@code count} reference numbers left
+     */
+    public long reserve(LocalDate date, int count) {
+        String datePrefix = ReferenceNoUtil.datePrefix(date);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long first = transactionTemplate.execute(status -> sequenceRepository.findForUpdate(datePrefix)
+                    .map(sequence -> advance(sequence, count))
+                    .orElse(null));
+            if (first != null) {
+                return first;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> sequenceRepository.saveAndFlush(newSequence(datePrefix)));
+            } catch (DataIntegrityViolationException e) {
+                // Another request created the day's row first; lock that one on the next pass.
+            }
+        }
+        throw new IllegalStateException("No reference sequence row for " + datePrefix);
+    }
+
+    private long advance(OrderReferenceSequence sequence, int count) {
+        long first = sequence.getLastSequence() + 1;
+        long last = sequence.getLastSequence() + count;
+        if (last > ReferenceNoUtil.MAX_SEQUENCE) {
+            throw new ConflictException("Reference numbers for " + sequence.getDatePrefix() + " are exhausted: "
+                    + (ReferenceNoUtil.MAX_SEQUENCE - sequence.getLastSequence()) + " left, " + count + " requested");
+        }
+        sequence.setLastSequence(last);
+        return first;
+    }
+
+    /**
+     * Starts a day's row after the highest reference number already issued
+     * that day, so orders numbered before the row existed are never repeated.
+     */
+    private OrderReferenceSequence newSequence(String datePrefix) {
+        OrderReferenceSequence sequence = new OrderReferenceSequence();
+        sequence.setDatePrefix(datePrefix);
+        sequence.setLastSequence(orderRepository.findMaxReferenceNoStartingWith(datePrefix)
+                .map(ReferenceNoUtil::sequenceOf)
+                .orElse(0L));
+        return sequence;
+    }
+}
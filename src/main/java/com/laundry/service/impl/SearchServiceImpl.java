@@ -0,0 +1,32 @@
+package com.laundry.service.impl;
+
+import com.laundry.dto.SearchResultDto;
+import com.laundry.dto.SearchType;
+import com.laundry.exception.BadRequestException;
+import com.laundry.helper.RoleGuard;
+import com.laundry.search.SearchIndexService;
+import com.laundry.service.SearchService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final SearchIndexService searchIndexService;
+
+    public SearchServiceImpl(SearchIndexService searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @Override
+    public List<SearchResultDto> search(String query, SearchType type, int limit, Long currentUserId, String currentUserRole) {
+        RoleGuard.requireAdminRole(currentUserRole, "You do not have permission to search");
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return searchIndexService.search(query, type, limit);
+    }
+}
@@ -0,0 +1,127 @@
+package com.laundry.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.laundry.dto.ApiResponse;
+import com.laundry.dto.ServiceCatalogSnapshot;
+import com.laundry.dto.ServiceResponseDto;
+import com.laundry.exception.InternalServerErrorException;
+import com.laundry.mapper.ServiceMapper;
+import com.laundry.repository.ServiceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the whole service catalog (services with all of their prices) as
+ * serialized JSON in memory.
+ * <p>
+ * The snapshot is tagged with a catalog version. Every service or price
+ * mutation calls {@link #invalidate()}, which bumps the version once its
+ * transaction commits; the next read rebuilds the snapshot with a single
+ * fetch-join query. A snapshot whose build overlapped an invalidation carries
+ * the old version and is rebuilt on the following read.
+ */
+@Slf4j
+@Service
+public class ServiceCatalogCache {
+
+    private static final String CATALOG_MESSAGE = "Service catalog fetched";
+
+    private final ServiceRepository serviceRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile ServiceCatalogSnapshot snapshot;
+
+    public ServiceCatalogCache(ServiceRepository serviceRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.serviceRepository = serviceRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Returns the current catalog snapshot, rebuilding it first if the catalog
+     * changed since it was taken. Concurrent readers share a single rebuild.
+     */
+    public ServiceCatalogSnapshot getSnapshot() {
+        ServiceCatalogSnapshot current = snapshot;
+        if (current != null && current.getVersion() == version.get()) {
+            return current;
+        }
+
+        synchronized (this) {
+            long currentVersion = version.get();
+            current = snapshot;
+            if (current != null && current.getVersion() == currentVersion) {
+                return current;
+            }
+            current = build(currentVersion);
+            snapshot = current;
+            return current;
+        }
+    }
+
+    /**
+     * Marks the catalog as changed. Inside a transaction the version is bumped
+     * after commit, so a rebuild never reads uncommitted or rolled-back data.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    private ServiceCatalogSnapshot build(long catalogVersion) {
+        List<ServiceResponseDto> services = readOnlyTransaction.execute(status ->
+                serviceRepository.findAllWithPrices().stream()
+                        .map(ServiceMapper::toResponseDto)
+                        .toList());
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(CATALOG_MESSAGE, services));
+            log.debug("Rebuilt service catalog version {} ({} services, {} bytes)",
+                    catalogVersion, services.size(), body.length);
+            return ServiceCatalogSnapshot.builder()
+                    .version(catalogVersion)
+                    .etag(etagOf(body))
+                    .body(body)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize service catalog version {}", catalogVersion, e);
+            throw new InternalServerErrorException("Failed to serialize service catalog");
+        }
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
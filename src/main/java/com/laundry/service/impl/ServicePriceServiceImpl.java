@@ -1,5 +1,6 @@
 package com.laundry.service.impl;
 
+import com.laundry.config.MetricsConfig;
 import com.laundry.dto.ServicePriceRequestDto;
 import com.laundry.dto.ServicePriceResponseDto;
 import com.laundry.entity.Service;
@@ -12,6 +13,7 @@ import com.laundry.mapper.ServicePriceMapper;
 import com.laundry.repository.ServicePriceRepository;
 import com.laundry.repository.ServiceRepository;
 import com.laundry.service.ServicePriceService;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +41,7 @@ import java.util.List;
 @Slf4j
 @org.springframework.stereotype.Service
 @Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ServicePriceServiceImpl implements ServicePriceService {
 
     private final ServiceRepository serviceRepository;
@@ -47,12 +50,16 @@ public class ServicePriceServiceImpl implements ServicePriceService {
 
     private final TcmbCurrencyService tcmbCurrencyService;
 
+    private final ServiceCatalogCache serviceCatalogCache;
+
     public ServicePriceServiceImpl(ServiceRepository serviceRepository,
                                    ServicePriceRepository servicePriceRepository,
-                                   TcmbCurrencyService tcmbCurrencyService) {
+                                   TcmbCurrencyService tcmbCurrencyService,
+                                   ServiceCatalogCache serviceCatalogCache) {
         this.serviceRepository = serviceRepository;
         this.servicePriceRepository = servicePriceRepository;
         this.tcmbCurrencyService = tcmbCurrencyService;
+        this.serviceCatalogCache = serviceCatalogCache;
     }
 
     @Override
@@ -75,6 +82,7 @@ public class ServicePriceServiceImpl implements ServicePriceService {
         ServicePrice mainEntity = handleMainPriceCreation(service, requestDto);
 
         syncOtherCurrencies(service, requestDto.getPrice(), requestDto.getCurrencyCode());
+        serviceCatalogCache.invalidate();
 
         return ServicePriceMapper.toDto(mainEntity);
     }
@@ -102,6 +110,7 @@ public class ServicePriceServiceImpl implements ServicePriceService {
 
         handleMainPriceUpdate(existing, requestDto);
         syncOtherCurrencies(existing.getService(), requestDto.getPrice(), requestDto.getCurrencyCode());
+        serviceCatalogCache.invalidate();
 
         return ServicePriceMapper.toDto(existing);
     }
@@ -166,6 +175,7 @@ public class ServicePriceServiceImpl implements ServicePriceService {
         ServicePrice entity = servicePriceRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("ServicePrice not found: " + id));
         servicePriceRepository.delete(entity);
+        serviceCatalogCache.invalidate();
     }
 
     /**
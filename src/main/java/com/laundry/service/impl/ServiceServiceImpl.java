@@ -1,5 +1,6 @@
 package com.laundry.service.impl;
 
+import com.laundry.dto.ServiceCatalogSnapshot;
 import com.laundry.dto.ServiceRequestDto;
 import com.laundry.dto.ServiceResponseDto;
 import com.laundry.entity.Service;
@@ -11,6 +12,7 @@ import com.laundry.mapper.ServiceMapper;
 import com.laundry.repository.ServiceRepository;
 import com.laundry.service.ServiceService;
 import com.laundry.util.Format;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -22,8 +24,12 @@ public class ServiceServiceImpl implements ServiceService {
 
     private final ServiceRepository serviceRepository;
 
-    public ServiceServiceImpl(ServiceRepository serviceRepository) {
+    private final ServiceCatalogCache serviceCatalogCache;
+
+    public ServiceServiceImpl(ServiceRepository serviceRepository,
+                              ServiceCatalogCache serviceCatalogCache) {
         this.serviceRepository = serviceRepository;
+        this.serviceCatalogCache = serviceCatalogCache;
     }
 
     @Override
@@ -41,6 +47,7 @@ public class ServiceServiceImpl implements ServiceService {
         Service service = ServiceMapper.toEntity(requestDto);
         updateEntity(service, requestDto);
         serviceRepository.save(service);
+        serviceCatalogCache.invalidate();
         return ServiceMapper.toResponseDto(service);
     }
 
@@ -58,6 +65,7 @@ public class ServiceServiceImpl implements ServiceService {
 
         updateEntity(existing, requestDto);
         serviceRepository.save(existing);
+        serviceCatalogCache.invalidate();
 
         return ServiceMapper.toResponseDto(existing);
     }
@@ -76,6 +84,7 @@ public class ServiceServiceImpl implements ServiceService {
 
         updateEntity(existing, requestDto);
         serviceRepository.save(existing);
+        serviceCatalogCache.invalidate();
 
         return ServiceMapper.toResponseDto(existing);
     }
@@ -90,11 +99,17 @@ public class ServiceServiceImpl implements ServiceService {
     @Override
     @Transactional(readOnly = true)
     public List<ServiceResponseDto> getAllServices() {
-        return serviceRepository.findAll().stream()
+        return serviceRepository.findAllWithPrices().stream()
                 .map(ServiceMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ServiceCatalogSnapshot getCatalog() {
+        return serviceCatalogCache.getSnapshot();
+    }
+
     @Override
     public void deleteService(Long id,
                               Long currentUserId,
@@ -105,6 +120,7 @@ public class ServiceServiceImpl implements ServiceService {
 
         Service service = getExistingService(id);
         serviceRepository.delete(service);
+        serviceCatalogCache.invalidate();
     }
 
     /**
@@ -47,6 +47,11 @@ public class TcmbCurrencyService {
     private String tcmbUrl;
     private final Map<String, Double> currencyToTryRate = new HashMap<>();
 
+    /**
+     * When the rates were last loaded successfully; {@code null} until then.
+     */
+    private volatile Instant lastUpdatedAt;
+
     /**
      * Initializes the service by fetching and parsing the TCMB XML data once
      * at application startup. If any error occurs (e.g., network or parse failure),
@@ -91,6 +96,7 @@ public class TcmbCurrencyService {
             }
 
             currencyToTryRate.put("TRY", 1.0);
+            lastUpdatedAt = Instant.now();
 
             log.info("TCMB rates updated successfully. Found {} currency entries.", count);
 
@@ -105,6 +111,13 @@ public class TcmbCurrencyService {
         }
     }
 
+    /**
+     * @return when the rates were last loaded successfully, or {@code null} if they never were
+     */
+    public Instant getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+
     /**
      * Retrieves the exchange rate for a given currency code relative to TRY.
      * Example: if "USD" maps to 35.41, it means 1 USD = 35.41 TRY.
@@ -10,6 +10,7 @@ import com.laundry.exception.UserAlreadyExistsException;
 import com.laundry.helper.RoleGuard;
 import com.laundry.mapper.UserMapper;
 import com.laundry.repository.UserRepository;
+import com.laundry.search.SearchIndexService;
 import com.laundry.service.UserService;
 import com.laundry.util.EmailUtil;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,12 +31,16 @@ public class UserServiceImpl implements UserService {
 
     private final MailService mailService;
 
+    private final SearchIndexService searchIndexService;
+
     public UserServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder,
-                           MailService mailService) {
+                           MailService mailService,
+                           SearchIndexService searchIndexService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.mailService = mailService;
+        this.searchIndexService = searchIndexService;
     }
 
     @Override
@@ -52,6 +57,7 @@ public class UserServiceImpl implements UserService {
         User user = UserMapper.toEntity(dto);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.save(user);
+        searchIndexService.indexUser(user);
         return UserMapper.toResponseDto(user);
     }
 
@@ -89,6 +95,7 @@ public class UserServiceImpl implements UserService {
             user.setPassword(passwordEncoder.encode(temp.getPassword()));
         }
         userRepository.save(user);
+        searchIndexService.indexUser(user);
         return UserMapper.toResponseDto(user);
     }
 
@@ -132,6 +139,7 @@ public class UserServiceImpl implements UserService {
             user.setPassword(passwordEncoder.encode(dto.getPassword()));
         }
         userRepository.save(user);
+        searchIndexService.indexUser(user);
         return UserMapper.toResponseDto(user);
     }
 
@@ -154,6 +162,7 @@ public class UserServiceImpl implements UserService {
         RoleGuard.requireAdminOrOwner(currentUserRole, currentUserId, user.getId(),
                 "You do not have permission to delete this user");
         userRepository.delete(user);
+        searchIndexService.removeUser(user.getId());
     }
 
     @Override
@@ -2,6 +2,8 @@ package com.laundry.specification;
 
 import com.laundry.entity.Order;
 import com.laundry.entity.OrderStatus;
+import com.laundry.util.LikeUtil;
+import com.laundry.util.ReferenceNoUtil;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
@@ -25,7 +27,37 @@ public class OrderSpecification {
         return (root, query, builder) -> builder.between(root.get("totalAmount"), minAmount, maxAmount);
     }
 
-    public static Specification<Order> referenceNoContains(String keyword) {
-        return (root, query, builder) -> builder.like(root.get("referenceNo"), "%" + keyword + "%");
+    public static Specification<Order> referenceNoEquals(String referenceNo) {
+        return (root, query, builder) -> builder.equal(root.get("referenceNo"), referenceNo);
+    }
+
+    public static Specification<Order> referenceNoStartsWith(String prefix) {
+        return (root, query, builder) ->
+                builder.like(root.get("referenceNo"), LikeUtil.startsWith(prefix), LikeUtil.ESCAPE);
+    }
+
+    /**
+     * Matches reference numbers ending with {@code suffix}. The search runs as a
+     * prefix search on the reversed column, so it can use an index instead of a
+     * leading-wildcard {@code LIKE} over the whole table.
+     */
+    public static Specification<Order> referenceNoEndsWith(String suffix) {
+        return (root, query, builder) ->
+                builder.like(root.get("referenceNoReversed"),
+                        LikeUtil.startsWith(ReferenceNoUtil.reverse(suffix)), LikeUtil.ESCAPE);
+    }
+
+    /**
+     * Matches reference numbers against a staff-entered keyword, choosing an
+     * exact, prefix or suffix lookup with {@link ReferenceNoUtil#matchTypeOf(String)}.
+     */
+    public static Specification<Order> referenceNoMatches(String keyword) {
+        String trimmed = keyword.trim();
+        String value = ReferenceNoUtil.stripWildcards(trimmed);
+        return switch (ReferenceNoUtil.matchTypeOf(trimmed)) {
+            case EXACT -> referenceNoEquals(value);
+            case PREFIX -> referenceNoStartsWith(value);
+            case SUFFIX -> referenceNoEndsWith(value);
+        };
     }
 }
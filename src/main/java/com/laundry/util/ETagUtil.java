@@ -0,0 +1,41 @@
+package com.laundry.util;
+
+import com.laundry.exception.BadRequestException;
+
+/**
+ * Converts between entity versions and the strong {@code ETag} /
+ * {@code If-Match} header values used by the order endpoints, e.g. version
+ * {@code 3} is sent as {@code "3"}.
+ */
+public class ETagUtil {
+
+    private ETagUtil() {
+
+    }
+
+    public static String fromVersion(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the version it refers to.
+     *
+     * @param ifMatch the raw header value, may be {@code null}
+     * @return the expected version, or {@code null} if the header is absent or {@code *}
+     * @throws BadRequestException if the header is not a single strong version ETag
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw new BadRequestException("If-Match must be a single strong ETag such as \"3\": " + ifMatch);
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match must be a single strong ETag such as \"3\": " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.laundry.util;
+
+import com.laundry.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset (seek) pagination ordered by
+ * {@code (created_at DESC, id DESC)}. The token encodes the sort key and id
+ * of the last row of a page; the next page starts strictly after it.
+ *
+ * @param createdAt the {@code created_at} value of the last row returned
+ * @param id        the id of the last row returned, used as tie-breaker
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes this cursor into a URL-safe token.
+     *
+     * @return the opaque token to hand to clients
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque token, may be {@code null} or blank for the first page
+     * @return the decoded cursor, or {@code null} if {@code token} is null/blank
+     * @throws BadRequestException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new KeysetCursor(createdAt, id);
+        } catch (java.lang.IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.laundry.util;
+
+/**
+ * Builds SQL {@code LIKE} patterns from user input. Wildcards in the input are
+ * escaped with {@link #ESCAPE}, which every query using these patterns must
+ * declare, e.g. {@code like :keyword escape '!'}.
+ */
+public final class LikeUtil {
+
+    public static final char ESCAPE = '!';
+
+    private LikeUtil() {
+    }
+
+    /**
+     * Returns a pattern matching values that start with {@code prefix}.
+     */
+    public static String startsWith(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        appendEscaped(pattern, prefix);
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * Returns a pattern matching values that contain {@code value}.
+     */
+    public static String contains(String value) {
+        StringBuilder pattern = new StringBuilder(value.length() + 2).append('%');
+        appendEscaped(pattern, value);
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * Appends {@code value} with {@code %}, {@code _} and {@link #ESCAPE}
+     * escaped, so that it only matches itself.
+     */
+    private static void appendEscaped(StringBuilder pattern, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.laundry.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Exact money arithmetic on scaled {@code long} values.
+ * <p>
+ * Amounts are handled as an unscaled {@code long} plus a decimal scale, e.g.
+ * {@code 12.50} TRY is {@code 1250} at scale 2 (kuruş). Intermediate values
+ * keep every digit; rounding happens once, {@link RoundingMode#HALF_UP}, to the
+ * currency's number of minor-unit digits ({@link #currencyScale(String)}).
+ * {@link BigDecimal} is only created for the final result, or as a fallback
+ * when an intermediate value does not fit in a {@code long}.
+ */
+public final class MoneyUtil {
+
+    /**
+     * Scale used for unknown currencies and currencies without minor units
+     * defined by {@link Currency}.
+     */
+    public static final int DEFAULT_SCALE = 2;
+
+    /**
+     * Quantities are in grams and prices per kilogram: {@code grams / 1000}
+     * adds three decimal digits.
+     */
+    public static final int GRAMS_PER_KILOGRAM_SCALE = 3;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private MoneyUtil() {
+    }
+
+    /**
+     * Returns the number of minor-unit digits of {@code currencyCode} (2 for
+     * TRY, USD and EUR, 0 for JPY), or {@link #DEFAULT_SCALE} if the code is
+     * missing, unknown or has no minor units.
+     */
+    public static int currencyScale(String currencyCode) {
+        if (currencyCode == null) {
+            return DEFAULT_SCALE;
+        }
+        try {
+            int digits = Currency.getInstance(currencyCode).getDefaultFractionDigits();
+            return digits < 0 ? DEFAULT_SCALE : digits;
+        } catch (java.lang.IllegalArgumentException e) {
+            return DEFAULT_SCALE;
+        }
+    }
+
+    /**
+     * Returns {@code amount * factor} as an unscaled value at {@code scale}.
+     *
+     * @param amount a value whose scale is at most {@code scale}
+     * @throws ArithmeticException if {@code amount} has a larger scale or the result does not fit in a {@code long}
+     */
+    public static long scaledProduct(BigDecimal amount, long factor, int scale) {
+        int shift = scale - amount.scale();
+        if (shift < 0 || shift >= POWERS_OF_TEN.length || amount.precision() > 18) {
+            throw new ArithmeticException("Amount does not fit at scale " + scale + ": " + amount);
+        }
+        long unscaled = Math.multiplyExact(unscaledLong(amount), POWERS_OF_TEN[shift]);
+        return Math.multiplyExact(unscaled, factor);
+    }
+
+    /**
+     * Unscaled value of an amount with at most 18 digits. Moving the point
+     * keeps the value in {@code BigDecimal}'s compact {@code long} form, which
+     * is cheaper than materializing {@link BigDecimal#unscaledValue()}.
+     */
+    private static long unscaledLong(BigDecimal amount) {
+        return amount.scale() == 0 ? amount.longValueExact() : amount.movePointRight(amount.scale()).longValueExact();
+    }
+
+    /**
+     * Rounds the unscaled value {@code unscaled} at {@code fromScale} to
+     * {@code toScale} digits, {@link RoundingMode#HALF_UP}, and returns it as a
+     * {@link BigDecimal} with scale {@code toScale}.
+     *
+     * @throws ArithmeticException if the rescaled value does not fit in a {@code long}
+     */
+    public static BigDecimal toAmount(long unscaled, int fromScale, int toScale) {
+        if (toScale >= fromScale) {
+            return BigDecimal.valueOf(Math.multiplyExact(unscaled, powerOfTen(toScale - fromScale)), toScale);
+        }
+        return BigDecimal.valueOf(roundHalfUp(unscaled, powerOfTen(fromScale - toScale)), toScale);
+    }
+
+    /**
+     * Price of {@code grams} at {@code pricePerKilogram}, rounded once to
+     * {@code scale} digits. Same result as
+     * {@code pricePerKilogram * grams / 1000} in {@link BigDecimal} followed by
+     * {@code setScale(scale, HALF_UP)}.
+     */
+    public static BigDecimal amountForGrams(BigDecimal pricePerKilogram, long grams, int scale) {
+        int priceScale = Math.max(pricePerKilogram.scale(), 0);
+        try {
+            long product = scaledProduct(pricePerKilogram, grams, priceScale);
+            return toAmount(product, priceScale + GRAMS_PER_KILOGRAM_SCALE, scale);
+        } catch (ArithmeticException overflow) {
+            return pricePerKilogram.multiply(BigDecimal.valueOf(grams))
+                    .movePointLeft(GRAMS_PER_KILOGRAM_SCALE)
+                    .setScale(scale, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * {@code dividend / divisor} rounded half away from zero, matching
+     * {@link RoundingMode#HALF_UP}.
+     *
+     * @param divisor a positive divisor
+     */
+    static long roundHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder >= divisor - remainder) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    private static long powerOfTen(int exponent) {
+        if (exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("10^" + exponent + " does not fit in a long");
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+}
@@ -4,11 +4,14 @@ import com.laundry.dto.OrderItemRequestDto;
 import com.laundry.dto.OrderRequestDto;
 import com.laundry.entity.*;
 import com.laundry.exception.BadRequestException;
+import com.laundry.exception.ErrorDetail;
 import com.laundry.mapper.OrderItemMapper;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 public class OrderUtil {
@@ -63,11 +66,37 @@ public class OrderUtil {
         }
     }
 
+    /**
+     * Returns the status an order moves to when it is advanced from
+     * {@code currentStatus}: PENDING &rarr; IN_PROGRESS &rarr; COMPLETED &rarr; DELIVERED.
+     *
+     * @param currentStatus the order's current status
+     * @return the next status in the workflow
+     * @throws BadRequestException if {@code currentStatus} is DELIVERED or not part of the workflow
+     */
+    public static OrderStatus nextStatus(OrderStatus currentStatus) {
+        if (currentStatus == null) {
+            throw new BadRequestException("Cannot advance from status: null");
+        }
+        return switch (currentStatus) {
+            case PENDING -> OrderStatus.IN_PROGRESS;
+            case IN_PROGRESS -> OrderStatus.COMPLETED;
+            case COMPLETED -> OrderStatus.DELIVERED;
+            case DELIVERED -> throw new BadRequestException(
+                    "Order is already DELIVERED. No further status change possible.");
+        };
+    }
+
     /**
      * Builds a list of {@link OrderItem} entities based on the provided
      * {@link OrderRequestDto#getOrderItems()} list, matching each item with the appropriate
-     * {@link Service} entity from {@code foundServices}. If no matching service is found,
-     * the corresponding {@link OrderItem} will have a null {@link Service} reference.
+     * {@link Service} entity from {@code foundServices}.
+     * <p>
+     * Services are matched through an array sorted by id and binary search, so
+     * the cost is O((items + services) log services) with no per-item allocation.
+     * Every item is checked before any entity is built: items without a service
+     * id or with an id missing from {@code foundServices} are all reported in one
+     * {@link BadRequestException}.
      * <p>
      * This method also associates each item with the parent {@link Order}.
      *
@@ -75,21 +104,42 @@ public class OrderUtil {
      * @param requestDto     the DTO containing item details, including service IDs
      * @param foundServices  a list of {@link Service} entities matched by ID
      * @return a list of newly constructed {@link OrderItem} entities
+     * @throws BadRequestException if an item has no service id or refers to a service not in {@code foundServices}
      */
     public static List<OrderItem> buildOrderItems(Order existing,
                                                   OrderRequestDto requestDto,
                                                   List<Service> foundServices) {
-        List<OrderItem> updatedItems = new ArrayList<>();
-        for (OrderItemRequestDto itemDto : requestDto.getOrderItems()) {
-            Service matchedService = (foundServices == null)
-                    ? null
-                    : foundServices.stream()
-                    .filter(svc -> svc.getId().equals(itemDto.getServiceId()))
-                    .findFirst()
-                    .orElse(null);
+        List<OrderItemRequestDto> itemDtos = requestDto.getOrderItems();
 
-            OrderItem itemEntity = OrderItemMapper.toEntity(itemDto, existing, matchedService);
-            updatedItems.add(itemEntity);
+        Service[] services = foundServices == null ? new Service[0] : foundServices.toArray(new Service[0]);
+        Arrays.sort(services, Comparator.comparingLong(Service::getId));
+        long[] serviceIds = new long[services.length];
+        for (int i = 0; i < services.length; i++) {
+            serviceIds[i] = services[i].getId();
+        }
+
+        int[] serviceIndexes = new int[itemDtos.size()];
+        List<ErrorDetail> errors = null;
+        for (int i = 0; i < serviceIndexes.length; i++) {
+            Long serviceId = itemDtos.get(i).getServiceId();
+            int index = serviceId == null ? -1 : Arrays.binarySearch(serviceIds, serviceId);
+            if (index < 0) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(serviceId == null
+                        ? new ErrorDetail("SERVICE_REQUIRED", "Service ID is required", "orderItems[" + i + "].serviceId")
+                        : new ErrorDetail("SERVICE_NOT_FOUND", "Service not found: " + serviceId, "orderItems[" + i + "].serviceId"));
+            }
+            serviceIndexes[i] = index;
+        }
+        if (errors != null) {
+            throw new BadRequestException("Order items refer to missing services", errors);
+        }
+
+        List<OrderItem> updatedItems = new ArrayList<>(serviceIndexes.length);
+        for (int i = 0; i < serviceIndexes.length; i++) {
+            updatedItems.add(OrderItemMapper.toEntity(itemDtos.get(i), existing, services[serviceIndexes[i]]));
         }
         return updatedItems;
     }
@@ -100,21 +150,40 @@ public class OrderUtil {
      * The total is calculated by summing up the product of:
      * <ul>
      *   <li>each item's {@code priceAmount} (as a {@link BigDecimal})</li>
-     *   <li>each item's quantity (converted from grams to kilograms by dividing by 1000.0)</li>
+     *   <li>each item's quantity (converted from grams to kilograms by dividing by 1000)</li>
      * </ul>
-     * The result is then scaled to 2 decimal places using {@link RoundingMode#HALF_UP}.
+     * The sum is exact and is rounded once, using {@link RoundingMode#HALF_UP}, to
+     * the number of minor-unit digits of {@code currencyCode}
+     * (see {@link MoneyUtil#currencyScale(String)}). It is accumulated in scaled
+     * {@code long} units and only falls back to {@link BigDecimal} arithmetic
+     * if it would overflow.
      *
-     * @param orderItems the list of {@link OrderItem} entities whose total cost is to be computed.
+     * @param orderItems   the list of {@link OrderItem} entities whose total cost is to be computed.
+     * @param currencyCode the order's currency, which decides the rounding scale
      * @return the total cost of the given items, or {@link BigDecimal#ZERO} if the list is null or empty.
      */
-    public static BigDecimal computeOrderItemsTotal(List<OrderItem> orderItems) {
+    public static BigDecimal computeOrderItemsTotal(List<OrderItem> orderItems, String currencyCode) {
         if (orderItems == null || orderItems.isEmpty()) {
             return BigDecimal.ZERO;
         }
-        double sum = 0.0;
+        int currencyScale = MoneyUtil.currencyScale(currencyCode);
+        int priceScale = 0;
         for (OrderItem item : orderItems) {
-            sum += item.getPriceAmount().doubleValue() * (item.getQuantity() / 1000.0);
+            priceScale = Math.max(priceScale, item.getPriceAmount().scale());
+        }
+
+        try {
+            long sum = 0;
+            for (OrderItem item : orderItems) {
+                sum = Math.addExact(sum, MoneyUtil.scaledProduct(item.getPriceAmount(), item.getQuantity(), priceScale));
+            }
+            return MoneyUtil.toAmount(sum, priceScale + MoneyUtil.GRAMS_PER_KILOGRAM_SCALE, currencyScale);
+        } catch (ArithmeticException overflow) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (OrderItem item : orderItems) {
+                sum = sum.add(item.getPriceAmount().multiply(BigDecimal.valueOf(item.getQuantity())));
+            }
+            return sum.movePointLeft(MoneyUtil.GRAMS_PER_KILOGRAM_SCALE).setScale(currencyScale, RoundingMode.HALF_UP);
         }
-        return BigDecimal.valueOf(sum).setScale(2, RoundingMode.HALF_UP);
     }
 }
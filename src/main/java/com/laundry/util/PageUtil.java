@@ -0,0 +1,26 @@
+package com.laundry.util;
+
+public final class PageUtil {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private PageUtil() {
+    }
+
+    /**
+     * Resolves the page size requested by a client, falling back to
+     * {@link #DEFAULT_PAGE_SIZE} when absent or not positive and capping it at
+     * {@link #MAX_PAGE_SIZE} so no single request can pull an unbounded result.
+     *
+     * @param requestedSize the size sent by the client, may be {@code null}
+     * @return a page size between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public static int resolvePageSize(Integer requestedSize) {
+        if (requestedSize == null || requestedSize <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requestedSize, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,136 @@
+package com.laundry.util;
+
+import java.time.LocalDate;
+
+/**
+ * Helpers for order reference numbers. A reference number is the order date
+ * as {@code yyMMdd} followed by a five digit daily sequence, e.g.
+ * {@code 25010300042} is the 42nd order of 3 January 2025.
+ */
+public final class ReferenceNoUtil {
+
+    public static final int DATE_PREFIX_LENGTH = 6;
+
+    public static final int SEQUENCE_LENGTH = 5;
+
+    public static final int LENGTH = DATE_PREFIX_LENGTH + SEQUENCE_LENGTH;
+
+    /**
+     * The highest daily sequence that fits in {@link #SEQUENCE_LENGTH} digits.
+     */
+    public static final long MAX_SEQUENCE = 99_999;
+
+    private static final char WILDCARD = '*';
+
+    /**
+     * The query shape used to look up orders by a reference number keyword.
+     */
+    public enum MatchType {
+        /** Full reference number; served by the unique index on {@code reference_no}. */
+        EXACT,
+        /** Leading characters (date part); served by a range scan on {@code reference_no}. */
+        PREFIX,
+        /** Trailing characters (sequence part); served by a range scan on {@code reference_no_reversed}. */
+        SUFFIX
+    }
+
+    private ReferenceNoUtil() {
+    }
+
+    /**
+     * Returns the {@code yyMMdd} prefix shared by all reference numbers of the given day.
+     *
+     * @param date the order date
+     * @return the six character date prefix
+     */
+    public static String datePrefix(LocalDate date) {
+        return String.format("%02d%02d%02d", date.getYear() % 100, date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Builds the reference number for the given day and daily sequence.
+     *
+     * @param date     the order date
+     * @param sequence the 1-based daily sequence
+     * @return the formatted reference number
+     * @throws IllegalArgumentException if {@code sequence} is not between 1 and {@link #MAX_SEQUENCE}
+     */
+    public static String format(LocalDate date, long sequence) {
+        if (sequence < 1 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Daily sequence out of range: " + sequence);
+        }
+        return datePrefix(date) + String.format("%0" + SEQUENCE_LENGTH + "d", sequence);
+    }
+
+    /**
+     * Extracts the daily sequence from a reference number.
+     *
+     * @param referenceNo a reference number produced by {@link #format(LocalDate, long)}
+     * @return the daily sequence, or {@code 0} if {@code referenceNo} is null or malformed
+     */
+    public static long sequenceOf(String referenceNo) {
+        if (referenceNo == null || referenceNo.length() != LENGTH) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(referenceNo.substring(DATE_PREFIX_LENGTH));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reverses a reference number so that suffix searches can be answered
+     * with an index-friendly prefix search on the reversed value.
+     *
+     * @param value the value to reverse, may be {@code null}
+     * @return the reversed value, or {@code null} if {@code value} is null
+     */
+    public static String reverse(String value) {
+        return value == null ? null : new StringBuilder(value).reverse().toString();
+    }
+
+    /**
+     * Chooses the query shape for a search keyword:
+     * <ul>
+     *   <li>{@code "2501*"} forces a prefix search and {@code "*42"} a suffix search.</li>
+     *   <li>A keyword of full reference length is an exact match.</li>
+     *   <li>Six or more characters cannot be a bare sequence, so they are treated as a prefix
+     *       (the date part, optionally followed by leading sequence digits).</li>
+     *   <li>Up to five characters are the trailing sequence digits staff read off a label.</li>
+     * </ul>
+     *
+     * @param keyword the trimmed, non-blank search keyword
+     * @return the match type to use
+     */
+    public static MatchType matchTypeOf(String keyword) {
+        if (keyword.length() > 1 && keyword.charAt(keyword.length() - 1) == WILDCARD) {
+            return MatchType.PREFIX;
+        }
+        if (keyword.length() > 1 && keyword.charAt(0) == WILDCARD) {
+            return MatchType.SUFFIX;
+        }
+        if (keyword.length() == LENGTH) {
+            return MatchType.EXACT;
+        }
+        return keyword.length() > SEQUENCE_LENGTH ? MatchType.PREFIX : MatchType.SUFFIX;
+    }
+
+    /**
+     * Removes the optional leading or trailing {@code *} used to force a match type.
+     *
+     * @param keyword the trimmed search keyword
+     * @return the keyword without wildcard markers
+     */
+    public static String stripWildcards(String keyword) {
+        int start = 0;
+        int end = keyword.length();
+        while (start < end && keyword.charAt(start) == WILDCARD) {
+            start++;
+        }
+        while (end > start && keyword.charAt(end - 1) == WILDCARD) {
+            end--;
+        }
+        return keyword.substring(start, end);
+    }
+}
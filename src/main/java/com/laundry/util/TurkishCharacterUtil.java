@@ -1,28 +1,142 @@
 package com.laundry.util;
 
+/**
+ * Transliterates Turkish text with precomputed lookup tables, in a single
+ * pass over the characters.
+ * <p>
+ * Every mapping is one character to one character (or, for fuzzy keys, to
+ * nothing), so the result is built in one {@code char[]}. Input that needs no
+ * change is returned as is, without allocating: a receipt with plain ASCII
+ * text costs one scan.
+ */
 public class TurkishCharacterUtil {
 
+    /**
+     * Latin-1 and Latin Extended-A; everything Turkish lives below this.
+     */
+    private static final int TABLE_SIZE = 0x180;
+
+    /**
+     * Marks a character that fuzzy keys treat as a word separator.
+     */
+    private static final char SEPARATOR = 0;
+
+    private static final char[] TO_ASCII = new char[TABLE_SIZE];
+
+    private static final char[] TO_SEARCH_KEY = new char[TABLE_SIZE];
+
+    private static final char[] TO_FUZZY_KEY = new char[TABLE_SIZE];
+
+    static {
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            TO_ASCII[c] = c;
+        }
+        map(TO_ASCII, "İĞÜŞÖÇığüşöç", "IGUSOCigusoc");
+
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            TO_SEARCH_KEY[c] = Character.toLowerCase(TO_ASCII[c]);
+        }
+
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            char key = TO_SEARCH_KEY[c];
+            TO_FUZZY_KEY[c] = Character.isLetterOrDigit(key) ? key : SEPARATOR;
+        }
+        // Circumflexes are optional in Turkish spelling: "kâğıt" is "kağıt".
+        map(TO_FUZZY_KEY, "ÂÎÛâîû", "aiuaiu");
+    }
+
     public static String convertTurkishCharacters(String input) {
         if (input == null) {
             return null;
         }
-        String result = input;
+        return translate(input, TO_ASCII, false);
+    }
 
-        result = result.replace("İ", "I")
-                .replace("I", "I")  // "I" zaten ASCII
-                .replace("Ğ", "G")
-                .replace("Ü", "U")
-                .replace("Ş", "S")
-                .replace("Ö", "O")
-                .replace("Ç", "C");
+    /**
+     * Returns the key under which {@code input} is indexed and searched:
+     * Turkish letters transliterated to ASCII and everything lower-cased, so
+     * "İSTANBUL", "Istanbul" and "istanbul" share a key. Dotted and dotless
+     * i both become {@code i}.
+     */
+    public static String toSearchKey(String input) {
+        if (input == null) {
+            return null;
+        }
+        return translate(input, TO_SEARCH_KEY, false);
+    }
 
-        result = result.replace("ı", "i")
-                .replace("ğ", "g")
-                .replace("ü", "u")
-                .replace("ş", "s")
-                .replace("ö", "o")
-                .replace("ç", "c");
+    /**
+     * Returns a looser key than {@link #toSearchKey(String)}: circumflexes are
+     * dropped and any run of punctuation or white space becomes one space,
+     * trimmed at both ends. Text typed on a keyboard without Turkish letters
+     * ("Cagri Oztas-Kagit") and the original ("Çağrı  Öztaş / kâğıt") meet on
+     * the same key.
+     */
+    public static String toFuzzyKey(String input) {
+        if (input == null) {
+            return null;
+        }
+        return translate(input, TO_FUZZY_KEY, true);
+    }
+
+    private static String translate(String input, char[] table, boolean fuzzy) {
+        int length = input.length();
+        int start = 0;
+        while (start < length) {
+            char c = input.charAt(start);
+            if (lookup(table, c, fuzzy) != c
+                    || (fuzzy && c == ' ' && (start == 0 || input.charAt(start - 1) == ' '))) {
+                break;
+            }
+            start++;
+        }
+        boolean trailingSpace = fuzzy && length > 0 && input.charAt(length - 1) == ' ';
+        if (start == length && !trailingSpace) {
+            return input;
+        }
+
+        // The unchanged prefix is copied as is; at most its last space is still pending.
+        char[] result = new char[length];
+        input.getChars(0, start, result, 0);
+        int size = start;
+        boolean pendingSpace = false;
+        if (fuzzy && size > 0 && result[size - 1] == ' ') {
+            size--;
+            pendingSpace = true;
+        }
+        for (int i = start; i < length; i++) {
+            char mapped = lookup(table, input.charAt(i), fuzzy);
+            if (fuzzy && mapped == ' ') {
+                pendingSpace = size > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                result[size++] = ' ';
+                pendingSpace = false;
+            }
+            result[size++] = mapped;
+        }
+        return new String(result, 0, size);
+    }
+
+    /**
+     * Maps one character; in fuzzy mode every separator comes back as a space.
+     */
+    private static char lookup(char[] table, char c, boolean fuzzy) {
+        if (c < TABLE_SIZE) {
+            char mapped = table[c];
+            return mapped == SEPARATOR && fuzzy ? ' ' : mapped;
+        }
+        if (table == TO_ASCII) {
+            return c;
+        }
+        char lower = Character.toLowerCase(c);
+        return fuzzy && !Character.isLetterOrDigit(lower) ? ' ' : lower;
+    }
 
-        return result;
+    private static void map(char[] table, String from, String to) {
+        for (int i = 0; i < from.length(); i++) {
+            table[from.charAt(i)] = to.charAt(i);
+        }
     }
 }
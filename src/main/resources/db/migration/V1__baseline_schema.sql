@@ -0,0 +1,114 @@
+-- Schema as it stood before migrations were introduced (previously created by
+-- Hibernate's ddl-auto). Existing databases are baselined at this version and
+-- skip this script; empty databases run it to get the same starting point.
+
+create table products (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    description TEXT,
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table services (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    name varchar(255) not null,
+    description TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+create table service_prices (
+    price decimal(38,2) not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    service_id bigint not null,
+    updated_at datetime(6),
+    currency_code varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    reset_token_expires_at datetime(6),
+    updated_at datetime(6),
+    address varchar(255),
+    display_name varchar(255),
+    email varchar(255),
+    password varchar(255) not null,
+    phone varchar(255),
+    reset_token varchar(255),
+    role varchar(255) not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table orders (
+    total_amount decimal(38,2) not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    product_id bigint not null,
+    updated_at datetime(6),
+    user_id bigint not null,
+    currency_code varchar(255) not null,
+    reference_no varchar(255),
+    payment_status enum ('CANCELLED','PAID','PENDING','REFUNDED') not null,
+    status enum ('COMPLETED','DELIVERED','IN_PROGRESS','PENDING') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table order_items (
+    price_amount decimal(38,2) not null,
+    quantity integer not null,
+    weight decimal(38,2) not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    order_id bigint not null,
+    service_id bigint not null,
+    updated_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table order_payment_history (
+    changed_at datetime(6) not null,
+    changed_by bigint,
+    id bigint not null auto_increment,
+    order_id bigint not null,
+    new_payment_status enum ('CANCELLED','PAID','PENDING','REFUNDED') not null,
+    old_payment_status enum ('CANCELLED','PAID','PENDING','REFUNDED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table order_status_history (
+    changed_at datetime(6) not null,
+    changed_by bigint,
+    id bigint not null auto_increment,
+    order_id bigint not null,
+    new_status enum ('COMPLETED','DELIVERED','IN_PROGRESS','PENDING') not null,
+    old_status enum ('COMPLETED','DELIVERED','IN_PROGRESS','PENDING') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table service_prices
+    add constraint FK2ykof6aguoscq9l5tivxjpop foreign key (service_id) references services (id);
+
+alter table orders
+    add constraint FK32ql8ubntj5uh44ph9659tiih foreign key (user_id) references users (id);
+
+alter table orders
+    add constraint FKkp5k52qtiygd8jkag4hayd0qg foreign key (product_id) references products (id);
+
+alter table order_items
+    add constraint FKbioxgbv59vetrxe0ejfubep1w foreign key (order_id) references orders (id);
+
+alter table order_items
+    add constraint FKmm8mpcqgnkrs1ytqbv66bdxso foreign key (service_id) references services (id);
+
+alter table order_payment_history
+    add constraint FKo8nwx7fspa1wekwq6jhgnk96s foreign key (order_id) references orders (id);
+
+alter table order_status_history
+    add constraint FKnmcbg3mmbt8wfva97ra40nmp3 foreign key (order_id) references orders (id);
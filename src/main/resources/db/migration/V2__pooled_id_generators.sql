@@ -0,0 +1,30 @@
+-- Backing table for the pooled table id generators (com.laundry.entity.IdGenerators).
+-- The generator uses the pooled-lo optimizer: next_val is the first id of the next
+-- block, whatever the block size (laundry.id.allocation_size). Each row is seeded at
+-- max(id) + 51 only as a safe starting point above the existing ids of its table;
+-- any value above max(id) would do.
+-- The old auto_increment attributes are left in place; Hibernate now always
+-- supplies the id explicitly.
+
+create table id_generators (
+    next_val bigint,
+    entity_name varchar(255) not null,
+    primary key (entity_name)
+) engine=InnoDB;
+
+insert into id_generators (entity_name, next_val)
+select 'products', coalesce(max(id), 0) + 51 from products
+union all
+select 'services', coalesce(max(id), 0) + 51 from services
+union all
+select 'service_prices', coalesce(max(id), 0) + 51 from service_prices
+union all
+select 'users', coalesce(max(id), 0) + 51 from users
+union all
+select 'orders', coalesce(max(id), 0) + 51 from orders
+union all
+select 'order_items', coalesce(max(id), 0) + 51 from order_items
+union all
+select 'order_payment_history', coalesce(max(id), 0) + 51 from order_payment_history
+union all
+select 'order_status_history', coalesce(max(id), 0) + 51 from order_status_history;
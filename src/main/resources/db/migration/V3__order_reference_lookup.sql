@@ -0,0 +1,17 @@
+-- Reference number lookups (see com.laundry.util.ReferenceNoUtil): exact and
+-- prefix matches use the unique index on reference_no, suffix matches use the
+-- reversed copy. Adding the unique key fails if duplicate reference numbers
+-- already exist; those rows have to be renumbered by hand first.
+
+alter table orders
+    add column reference_no_reversed varchar(255);
+
+update orders
+set reference_no_reversed = reverse(reference_no)
+where reference_no is not null;
+
+alter table orders
+    add constraint uk_orders_reference_no unique (reference_no);
+
+create index idx_orders_reference_no_reversed
+    on orders (reference_no_reversed);
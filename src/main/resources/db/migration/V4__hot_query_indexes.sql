@@ -0,0 +1,36 @@
+-- Indexes for the hot query paths: keyset order listing (created_at, id),
+-- per-user and per-status order filters, price lookup by service and currency,
+-- login / uniqueness checks on users, reset token lookup and order history.
+
+create index idx_orders_created_at_id
+    on orders (created_at, id);
+
+create index idx_orders_user_id_status
+    on orders (user_id, status);
+
+create index idx_orders_status_created_at
+    on orders (status, created_at);
+
+alter table service_prices
+    add constraint uk_service_prices_service_id_currency_code unique (service_id, currency_code);
+
+alter table users
+    add constraint uk_users_username unique (username);
+
+alter table users
+    add constraint uk_users_email unique (email);
+
+create index idx_users_reset_token
+    on users (reset_token);
+
+create index idx_order_status_history_order_id_changed_at
+    on order_status_history (order_id, changed_at);
+
+create index idx_order_status_history_changed_at
+    on order_status_history (changed_at);
+
+create index idx_order_payment_history_order_id_changed_at
+    on order_payment_history (order_id, changed_at);
+
+create index idx_order_payment_history_changed_at
+    on order_payment_history (changed_at);
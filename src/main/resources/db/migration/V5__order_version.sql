@@ -0,0 +1,4 @@
+-- Optimistic locking for orders (Order.version). Existing rows start at 0.
+
+alter table orders
+    add column version bigint not null default 0;
@@ -0,0 +1,15 @@
+-- Stored responses for create requests sent with an Idempotency-Key header
+-- (see com.laundry.service.impl.IdempotencyStore). Expired rows are purged by
+-- expires_at.
+
+create table idempotency_keys (
+    created_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    id varchar(64) not null,
+    request_hash varchar(64) not null,
+    response_body mediumtext,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_idempotency_keys_expires_at
+    on idempotency_keys (expires_at);
@@ -0,0 +1,8 @@
+-- Indexes for the keyset admin user listing ordered by (created_at, id),
+-- optionally filtered by role.
+
+create index idx_users_created_at_id
+    on users (created_at, id);
+
+create index idx_users_role_created_at
+    on users (role, created_at);
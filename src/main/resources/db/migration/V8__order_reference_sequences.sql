@@ -0,0 +1,10 @@
+-- Per-day counters for order reference numbers (see
+-- com.laundry.service.impl.ReferenceNoAllocator). A day's row is created on its
+-- first order, starting after the highest reference number already issued
+-- that day, so no backfill is needed.
+
+create table order_reference_sequences (
+    last_sequence bigint not null,
+    date_prefix varchar(6) not null,
+    primary key (date_prefix)
+) engine=InnoDB;
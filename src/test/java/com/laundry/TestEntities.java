@@ -0,0 +1,64 @@
+package com.laundry;
+
+import com.laundry.entity.Order;
+import com.laundry.entity.OrderItem;
+import com.laundry.entity.OrderStatus;
+import com.laundry.entity.PaymentStatus;
+import com.laundry.entity.Product;
+import com.laundry.entity.Service;
+import com.laundry.entity.User;
+
+import java.math.BigDecimal;
+
+/**
+ * Minimal valid entities for persistence tests.
+ */
+public final class TestEntities {
+
+    private TestEntities() {
+    }
+
+    public static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setDisplayName(username);
+        user.setPassword("password");
+        user.setRole("USER");
+        return user;
+    }
+
+    public static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        return product;
+    }
+
+    public static Service service(String name) {
+        Service service = new Service();
+        service.setName(name);
+        return service;
+    }
+
+    public static Order order(User user, Product product, String referenceNo) {
+        Order order = new Order();
+        order.setUser(user);
+        order.setProduct(product);
+        order.setReferenceNo(referenceNo);
+        order.setTotalAmount(BigDecimal.ZERO);
+        order.setCurrencyCode("TRY");
+        order.setStatus(OrderStatus.PENDING);
+        order.setPaymentStatus(PaymentStatus.PENDING);
+        return order;
+    }
+
+    public static OrderItem item(Order order, Service service) {
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setService(service);
+        item.setPriceAmount(BigDecimal.TEN);
+        item.setQuantity(1);
+        item.setWeight(BigDecimal.ONE);
+        order.getOrderItems().add(item);
+        return item;
+    }
+}
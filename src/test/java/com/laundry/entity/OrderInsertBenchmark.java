@@ -0,0 +1,178 @@
+package com.laundry.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JDBC traffic of saving one order with its items: ids from a pooled
+ * block and the items sent as one batch ({@link PooledTableIdGenerator}),
+ * against the single-row INSERT per entity that IDENTITY columns forced.
+ * <p>
+ * By default this runs on in-memory H2, which has no network round trip and
+ * executes a batch row by row, so both take about as long there. The saving
+ * is in round trips: point {@code url} at a MySQL schema (Connector/J with
+ * {@code rewriteBatchedStatements=true}, as in {@code persistence.properties})
+ * to measure it. The benchmark creates and drops its own {@code bench_*}
+ * tables. {@link PooledTableIdGeneratorTest} checks the statement count
+ * through Hibernate. Run with
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main OrderInsertBenchmark \
+ *         -p url=jdbc:mysql://localhost/laundry_bench?rewriteBatchedStatements=true -p user=... -p password=..."
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"1", "30"})
+    private int items;
+
+    @Param({"jdbc:h2:mem:order-insert-benchmark"})
+    private String url;
+
+    @Param({""})
+    private String user;
+
+    @Param({""})
+    private String password;
+
+    private Connection connection;
+
+    private long nextId;
+
+    private long reservedUpTo;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table bench_id_generators (entity_name varchar(255) primary key, next_val bigint)");
+            statement.execute("insert into bench_id_generators values ('orders', 1)");
+            statement.execute("create table bench_orders (id bigint primary key, reference_no varchar(20))");
+            statement.execute("create table bench_order_items (id bigint primary key, order_id bigint, quantity int)");
+            statement.execute("create table bench_identity_orders (id bigint auto_increment primary key, reference_no varchar(20))");
+            statement.execute("create table bench_identity_order_items (id bigint auto_increment primary key, order_id bigint, quantity int)");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table bench_orders");
+            statement.execute("truncate table bench_order_items");
+            statement.execute("truncate table bench_identity_orders");
+            statement.execute("truncate table bench_identity_order_items");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table bench_id_generators, bench_orders, bench_order_items, "
+                    + "bench_identity_orders, bench_identity_order_items");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * One INSERT for the order and one batch for its items; an UPDATE of the
+     * generator row every {@value #ALLOCATION_SIZE} ids.
+     */
+    @Benchmark
+    public long pooledBatched() throws SQLException {
+        long orderId = nextId();
+        try (PreparedStatement insertOrder = connection.prepareStatement(
+                "insert into bench_orders (id, reference_no) values (?, ?)")) {
+            insertOrder.setLong(1, orderId);
+            insertOrder.setString(2, "26010100001");
+            insertOrder.executeUpdate();
+        }
+        try (PreparedStatement insertItem = connection.prepareStatement(
+                "insert into bench_order_items (id, order_id, quantity) values (?, ?, ?)")) {
+            for (int i = 0; i < items; i++) {
+                insertItem.setLong(1, nextId());
+                insertItem.setLong(2, orderId);
+                insertItem.setInt(3, 1500);
+                insertItem.addBatch();
+            }
+            insertItem.executeBatch();
+        }
+        connection.commit();
+        return orderId;
+    }
+
+    /**
+     * The previous mapping: every row is inserted on its own to read back
+     * its generated id.
+     */
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long orderId;
+        try (PreparedStatement insertOrder = connection.prepareStatement(
+                "insert into bench_identity_orders (reference_no) values (?)", Statement.RETURN_GENERATED_KEYS)) {
+            insertOrder.setString(1, "26010100001");
+            insertOrder.executeUpdate();
+            orderId = generatedId(insertOrder);
+        }
+        for (int i = 0; i < items; i++) {
+            try (PreparedStatement insertItem = connection.prepareStatement(
+                    "insert into bench_identity_order_items (order_id, quantity) values (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                insertItem.setLong(1, orderId);
+                insertItem.setInt(2, 1500);
+                insertItem.executeUpdate();
+                generatedId(insertItem);
+            }
+        }
+        connection.commit();
+        return orderId;
+    }
+
+    private long nextId() throws SQLException {
+        if (nextId == reservedUpTo) {
+            try (PreparedStatement reserve = connection.prepareStatement(
+                    "update bench_id_generators set next_val = next_val + ? where entity_name = 'orders'")) {
+                reserve.setInt(1, ALLOCATION_SIZE);
+                reserve.executeUpdate();
+            }
+            reservedUpTo += ALLOCATION_SIZE;
+        }
+        return ++nextId;
+    }
+
+    private static long generatedId(PreparedStatement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+}
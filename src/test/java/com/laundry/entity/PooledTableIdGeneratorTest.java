@@ -0,0 +1,83 @@
+package com.laundry.entity;
+
+import com.laundry.TestEntities;
+import com.laundry.config.CacheConfig;
+import com.laundry.config.PersistenceConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ids come from the pooled table generator, so saving an order with many items
+ * is a couple of batched INSERTs instead of one INSERT per row. Runs with a
+ * non-default allocation size to check that the setting is honoured.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, CacheConfig.class})
+@TestPropertySource(locations = "classpath:jpa-test.properties",
+        properties = "spring.jpa.properties.laundry.id.allocation_size=40")
+class PooledTableIdGeneratorTest {
+
+    private static final int ITEMS = 30;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reservesBlocksOfTheConfiguredSize() {
+        Long lastId = null;
+        for (int i = 0; i < 50; i++) {
+            Product product = TestEntities.product("product" + i);
+            entityManager.persist(product);
+            lastId = product.getId();
+        }
+        entityManager.flush();
+
+        // The row holds the last id of the current block: blocks are 1-40, 41-80, ...
+        long reservedUpTo = jdbcTemplate.queryForObject(
+                "select next_val from id_generators where entity_name = 'products'", Long.class);
+        assertEquals(0, reservedUpTo % 40);
+        assertTrue(lastId <= reservedUpTo && reservedUpTo < lastId + 40);
+    }
+
+    @Test
+    void savesAnOrderWithItsItemsInOneBatchPerTable() {
+        User user = TestEntities.user("batch");
+        Product product = TestEntities.product("shirt");
+        Service service = TestEntities.service("wash");
+        entityManager.persist(user);
+        entityManager.persist(product);
+        entityManager.persist(service);
+        entityManager.flush();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        Order order = TestEntities.order(user, product, "26010100001");
+        for (int i = 0; i < ITEMS; i++) {
+            TestEntities.item(order, service);
+        }
+        entityManager.persist(order);
+        entityManager.flush();
+
+        assertEquals(ITEMS + 1, statistics.getEntityInsertCount());
+        // One prepared INSERT for the order and one, executed as a batch, for its items.
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,179 @@
+package com.laundry.receipt;
+
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.laundry.dto.ReceiptDto;
+import com.laundry.service.impl.QrCodeGeneratorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing the receipt QR code at printer resolution: straight from ZXing's
+ * {@link BitMatrix} as {@link ReceiptRenderer} does, against the previous
+ * PNG encode, decode and white-border crop. Run with the GC profiler to see
+ * the allocation per receipt:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main QrCodeDrawingBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class QrCodeDrawingBenchmark {
+
+    private static final int QR_SIZE = 40;
+
+    private static final int OLD_SOURCE_SIZE = 100;
+
+    private final QrCodeGeneratorService generator = new QrCodeGeneratorService(ErrorCorrectionLevel.L, 4, 1000, 0);
+
+    private final ReceiptRenderer renderer = new ReceiptRenderer();
+
+    private String qrData;
+
+    private BufferedImage page;
+
+    @Setup
+    public void setUp() {
+        ReceiptDto receipt = ReceiptDto.builder()
+                .referenceNo("26010500042")
+                .customerName("Ayşe Yılmaz")
+                .productName("Gömlek")
+                .services("Yıkama, Ütü, Kuru Temizleme")
+                .totalWeight("2500")
+                .totalQuantity(4)
+                .orderDate("2026-01-05T10:15:00")
+                .build();
+        qrData = ReceiptContent.qrData(ReceiptContent.values(receipt, "Çamaşırhane"));
+
+        int pixels = (int) Math.ceil(QR_SIZE * ReceiptRenderer.DPI / ReceiptRenderer.POINTS_PER_INCH);
+        page = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Benchmark
+    public BufferedImage bitMatrix() throws WriterException {
+        ReceiptLayout layout = ReceiptLayout.builder()
+                .width(QR_SIZE)
+                .height(QR_SIZE)
+                .element(new ReceiptElement.QrCode(generator.generateQRCodeMatrix(qrData, 3), 0, 0, QR_SIZE))
+                .build();
+        Graphics2D g2d = atPrinterResolution();
+        try {
+            renderer.draw(g2d, layout);
+        } finally {
+            g2d.dispose();
+        }
+        return page;
+    }
+
+    /**
+     * The previous implementation, copied from the layout engine.
+     */
+    @Benchmark
+    public BufferedImage pngRoundTrip() throws WriterException, IOException {
+        byte[] png = generator.generateQRCodeImage(qrData, OLD_SOURCE_SIZE, OLD_SOURCE_SIZE);
+        BufferedImage qrImage = cropWhiteBorder(ImageIO.read(new ByteArrayInputStream(png)));
+        Graphics2D g2d = atPrinterResolution();
+        try {
+            g2d.drawImage(qrImage, 0, 0, QR_SIZE, QR_SIZE, null);
+        } finally {
+            g2d.dispose();
+        }
+        return page;
+    }
+
+    private Graphics2D atPrinterResolution() {
+        Graphics2D g2d = page.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, page.getWidth(), page.getHeight());
+        double scale = ReceiptRenderer.DPI / ReceiptRenderer.POINTS_PER_INCH;
+        g2d.scale(scale, scale);
+        return g2d;
+    }
+
+    private static BufferedImage cropWhiteBorder(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int top = 0, left = 0, right = width, bottom = height;
+
+        for (int y = 0; y < height; y++) {
+            boolean found = false;
+            for (int x = 0; x < width; x++) {
+                if (isWhite(image.getRGB(x, y))) {
+                    top = y;
+                    found = true;
+                    break;
+                }
+            }
+            if (found) break;
+        }
+        for (int y = height - 1; y >= 0; y--) {
+            boolean found = false;
+            for (int x = 0; x < width; x++) {
+                if (isWhite(image.getRGB(x, y))) {
+                    bottom = y;
+                    found = true;
+                    break;
+                }
+            }
+            if (found) break;
+        }
+        for (int x = 0; x < width; x++) {
+            boolean found = false;
+            for (int y = 0; y < height; y++) {
+                if (isWhite(image.getRGB(x, y))) {
+                    left = x;
+                    found = true;
+                    break;
+                }
+            }
+            if (found) break;
+        }
+        for (int x = width - 1; x >= 0; x--) {
+            boolean found = false;
+            for (int y = 0; y < height; y++) {
+                if (isWhite(image.getRGB(x, y))) {
+                    right = x;
+                    found = true;
+                    break;
+                }
+            }
+            if (found) break;
+        }
+        int margin = 3;
+        left = Math.max(0, left - margin);
+        top = Math.max(0, top - margin);
+        right = Math.min(width - 1, right + margin);
+        bottom = Math.min(height - 1, bottom + margin);
+
+        int newWidth = right - left + 1;
+        int newHeight = bottom - top + 1;
+        return image.getSubimage(left, top, newWidth, newHeight);
+    }
+
+    private static boolean isWhite(int rgb) {
+        Color color = new Color(rgb, true);
+        return color.getAlpha() != 0 && (color.getRed() <= 240 || color.getGreen() <= 240 || color.getBlue() <= 240);
+    }
+}
@@ -0,0 +1,92 @@
+package com.laundry.receipt;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.laundry.dto.ReceiptDto;
+import com.laundry.receipt.sink.ReceiptSinkRouter;
+import com.laundry.service.impl.QrCodeGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ReceiptRenderingServiceTest {
+
+    private static final ReceiptDto RECEIPT = receipt("Ayşe Yılmaz", "1.500");
+
+    private final ReceiptRenderingService service = new ReceiptRenderingService(
+            new ReceiptLayoutEngine(new QrCodeGeneratorService(ErrorCorrectionLevel.L, 4, 1000, 10), "Firma", "Slogan"),
+            new ReceiptRenderer(),
+            mock(ReceiptSinkRouter.class),
+            10);
+
+    @Test
+    void servesTheCachedReceiptForTheSameContent() throws Exception {
+        RenderedReceipt first = service.render(RECEIPT, ReceiptFormat.PNG);
+
+        assertSame(first, service.render(receipt("Ayşe Yılmaz", "1.500"), ReceiptFormat.PNG));
+    }
+
+    @Test
+    void rendersAgainWhenContentChangesAtTheSameVersion() throws Exception {
+        RenderedReceipt before = service.render(RECEIPT, ReceiptFormat.PNG);
+
+        // A renamed customer or a changed item does not bump the order's version.
+        RenderedReceipt renamed = service.render(receipt("Ayşe Demir", "1.500"), ReceiptFormat.PNG);
+        RenderedReceipt reweighed = service.render(receipt("Ayşe Yılmaz", "2.000"), ReceiptFormat.PNG);
+
+        assertNotEquals(before.getEtag(), renamed.getEtag());
+        assertNotEquals(before.getEtag(), reweighed.getEtag());
+        assertNotEquals(renamed.getEtag(), reweighed.getEtag());
+    }
+
+    @Test
+    void cachesEachFormatSeparately() throws Exception {
+        RenderedReceipt png = service.render(RECEIPT, ReceiptFormat.PNG);
+        RenderedReceipt pdf = service.render(RECEIPT, ReceiptFormat.PDF);
+
+        assertNotEquals(png.getEtag(), pdf.getEtag());
+        assertSame(pdf, service.render(RECEIPT, ReceiptFormat.PDF));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void laysOutPrintedReceiptsOnlyWhenASinkDrawsThem() throws Exception {
+        ReceiptLayoutEngine layoutEngine = mock(ReceiptLayoutEngine.class);
+        ReceiptLayout layout = ReceiptLayout.builder().width(1).height(1).build();
+        when(layoutEngine.layout(RECEIPT)).thenReturn(layout);
+        ReceiptSinkRouter router = mock(ReceiptSinkRouter.class);
+        ReceiptRenderingService printing = new ReceiptRenderingService(layoutEngine, new ReceiptRenderer(), router, 10);
+
+        printing.print(List.of(RECEIPT));
+
+        ArgumentCaptor<List<ReceiptDocument>> job = ArgumentCaptor.forClass(List.class);
+        verify(router).print(job.capture());
+        verifyNoInteractions(layoutEngine);
+
+        ReceiptDocument document = job.getValue().getFirst();
+        assertSame(layout, document.layout());
+        assertSame(layout, document.layout());
+        verify(layoutEngine, times(1)).layout(RECEIPT);
+    }
+
+    private static ReceiptDto receipt(String customerName, String totalWeight) {
+        return ReceiptDto.builder()
+                .referenceNo("26010500001")
+                .version(3L)
+                .customerName(customerName)
+                .productName("Gömlek")
+                .services("Yıkama, Ütü")
+                .totalWeight(totalWeight)
+                .totalQuantity(2)
+                .orderDate("2026-01-05T10:00")
+                .build();
+    }
+}
@@ -0,0 +1,256 @@
+package com.laundry.receipt.sink;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.laundry.dto.ReceiptDto;
+import com.laundry.receipt.ReceiptDocument;
+import com.laundry.receipt.ReceiptLayoutEngine;
+import com.laundry.receipt.ReceiptRenderer;
+import com.laundry.service.impl.QrCodeGeneratorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.print.PrinterException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ReceiptSinkRouterTest {
+
+    private static final ReceiptDto RECEIPT = ReceiptDto.builder()
+            .referenceNo("26010500001")
+            .version(1L)
+            .customerName("Ayşe Yılmaz")
+            .productName("Gömlek")
+            .services("Yıkama")
+            .totalWeight("500")
+            .totalQuantity(1)
+            .orderDate("2026-01-05T10:00:00")
+            .build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void roundRobinTakesTurns() throws Exception {
+        RecordingSink a = new RecordingSink("a");
+        RecordingSink b = new RecordingSink("b");
+        RecordingSink c = new RecordingSink("c");
+        ReceiptSinkRouter router = router(ReceiptPrintingProperties.Dispatch.ROUND_ROBIN, a, b, c);
+
+        for (int i = 0; i < 7; i++) {
+            router.print(documents(1));
+        }
+
+        assertEquals(3, a.jobs.get());
+        assertEquals(2, b.jobs.get());
+        assertEquals(2, c.jobs.get());
+    }
+
+    @Test
+    void leastBusySkipsAPrinterThatIsStillPrinting() throws Exception {
+        RecordingSink slow = new RecordingSink("slow");
+        slow.blockNextJob();
+        RecordingSink b = new RecordingSink("b");
+        RecordingSink c = new RecordingSink("c");
+        ReceiptSinkRouter router = router(ReceiptPrintingProperties.Dispatch.LEAST_BUSY, slow, b, c);
+
+        CompletableFuture<Void> stuck = CompletableFuture.runAsync(() -> printQuietly(router));
+        assertTrue(slow.started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 6; i++) {
+            router.print(documents(1));
+        }
+        slow.release.countDown();
+        stuck.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, slow.jobs.get());
+        assertEquals(6, b.jobs.get() + c.jobs.get());
+        assertTrue(b.jobs.get() > 0 && c.jobs.get() > 0, "ties are spread over the idle printers");
+    }
+
+    @Test
+    void publishesMetricsPerPrinter() throws Exception {
+        RecordingSink good = new RecordingSink("good");
+        RecordingSink broken = new RecordingSink("broken");
+        broken.fail = true;
+        ReceiptSinkRouter router = router(ReceiptPrintingProperties.Dispatch.ROUND_ROBIN, good, broken);
+
+        router.print(documents(2));
+        assertThrows(PrinterException.class, () -> router.print(documents(1)));
+        router.print(documents(3));
+
+        assertEquals(2, timerCount("good", "success"));
+        assertEquals(0, timerCount("good", "failure"));
+        assertEquals(0, timerCount("broken", "success"));
+        assertEquals(1, timerCount("broken", "failure"));
+        assertEquals(5, meterRegistry.get("receipt.print.receipts").tag("printer", "good").counter().count());
+        assertEquals(0, meterRegistry.get("receipt.print.receipts").tag("printer", "broken").counter().count());
+        assertEquals(0, meterRegistry.get("receipt.print.active").tag("printer", "broken").gauge().value());
+        assertEquals("noop", meterRegistry.get("receipt.print").tag("printer", "good").timers()
+                .iterator().next().getId().getTag("type"));
+    }
+
+    @Test
+    void countsJobsInProgress() throws Exception {
+        RecordingSink slow = new RecordingSink("slow");
+        slow.blockNextJob();
+        ReceiptSinkRouter router = router(ReceiptPrintingProperties.Dispatch.ROUND_ROBIN, slow);
+
+        CompletableFuture<Void> job = CompletableFuture.runAsync(() -> printQuietly(router));
+        assertTrue(slow.started.await(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("receipt.print.active").tag("printer", "slow").gauge().value());
+
+        slow.release.countDown();
+        job.get(5, TimeUnit.SECONDS);
+        assertEquals(0, meterRegistry.get("receipt.print.active").tag("printer", "slow").gauge().value());
+    }
+
+    @Test
+    void writesEscPosFilesAndPdfsFromTheConfiguredPrinters(@TempDir Path directory) throws Exception {
+        Path escPosFile = directory.resolve("lp0");
+        Path pdfDirectory = directory.resolve("pdf");
+        ReceiptPrintingProperties properties = new ReceiptPrintingProperties();
+        properties.getPrinters().add(printer("usb", ReceiptPrintingProperties.Type.ESCPOS_FILE, escPosFile));
+        properties.getPrinters().add(printer("archive", ReceiptPrintingProperties.Type.PDF_FILE, pdfDirectory));
+        ReceiptRenderer renderer = new ReceiptRenderer();
+        ReceiptSinkRouter router = new ReceiptSinkRouter(properties, renderer, meterRegistry, "Çamaşırhane", "Temiz iş");
+        ReceiptLayoutEngine layoutEngine = new ReceiptLayoutEngine(
+                new QrCodeGeneratorService(ErrorCorrectionLevel.L, 4, 1000, 10), "Çamaşırhane", "Temiz iş");
+        ReceiptDocument document = new ReceiptDocument(RECEIPT, layoutEngine::layout);
+
+        router.print(List.of(document));
+        router.print(List.of(document, document));
+        router.print(List.of(document));
+
+        byte[] written = Files.readAllBytes(escPosFile);
+        assertArrayEquals(new byte[]{0x1B, '@'}, new byte[]{written[0], written[1]});
+        assertTrue(new String(written, "IBM857").contains("Ayşe Yılmaz"));
+        assertEquals(2, cuts(written), "one cut per receipt, over two jobs");
+
+        try (Stream<Path> files = Files.list(pdfDirectory)) {
+            List<Path> pdfs = files.toList();
+            assertEquals(1, pdfs.size());
+            assertTrue(pdfs.getFirst().getFileName().toString().startsWith("26010500001+1-"));
+            byte[] pdf = Files.readAllBytes(pdfs.getFirst());
+            assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.US_ASCII));
+        }
+        assertEquals(2, meterRegistry.get("receipt.print.receipts").tags("printer", "usb", "type", "escpos_file").counter().count());
+        assertEquals(2, meterRegistry.get("receipt.print.receipts").tags("printer", "archive", "type", "pdf_file").counter().count());
+    }
+
+    @Test
+    void rejectsPrintersWithTheSameName(@TempDir Path directory) {
+        ReceiptPrintingProperties properties = new ReceiptPrintingProperties();
+        properties.getPrinters().add(printer("counter", ReceiptPrintingProperties.Type.NOOP, directory));
+        properties.getPrinters().add(printer("counter", ReceiptPrintingProperties.Type.NOOP, directory));
+
+        assertThrows(IllegalStateException.class,
+                () -> new ReceiptSinkRouter(properties, new ReceiptRenderer(), meterRegistry, "Çamaşırhane", "Temiz iş"));
+
+        // A printer without a name is called printer-<index>, which can clash too.
+        properties.getPrinters().set(0, printer("printer-1", ReceiptPrintingProperties.Type.NOOP, directory));
+        properties.getPrinters().set(1, printer(null, ReceiptPrintingProperties.Type.NOOP, directory));
+
+        assertThrows(IllegalStateException.class,
+                () -> new ReceiptSinkRouter(properties, new ReceiptRenderer(), meterRegistry, "Çamaşırhane", "Temiz iş"));
+    }
+
+    private ReceiptSinkRouter router(ReceiptPrintingProperties.Dispatch dispatch, ReceiptSink... sinks) {
+        Map<ReceiptSink, ReceiptPrintingProperties.Type> types = new LinkedHashMap<>();
+        for (ReceiptSink sink : sinks) {
+            types.put(sink, ReceiptPrintingProperties.Type.NOOP);
+        }
+        return new ReceiptSinkRouter(dispatch, types, meterRegistry);
+    }
+
+    private long timerCount(String printer, String outcome) {
+        return meterRegistry.get("receipt.print").tags("printer", printer, "outcome", outcome).timer().count();
+    }
+
+    private static List<ReceiptDocument> documents(int count) {
+        return Collections.nCopies(count, new ReceiptDocument(RECEIPT, receipt -> fail("not drawn")));
+    }
+
+    private static void printQuietly(ReceiptSinkRouter router) {
+        try {
+            router.print(documents(1));
+        } catch (PrinterException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ReceiptPrintingProperties.Printer printer(String name, ReceiptPrintingProperties.Type type, Path path) {
+        ReceiptPrintingProperties.Printer printer = new ReceiptPrintingProperties.Printer();
+        printer.setName(name);
+        printer.setType(type);
+        printer.setPath(path.toString());
+        return printer;
+    }
+
+    private static int cuts(byte[] data) {
+        int count = 0;
+        for (int i = 0; i + 1 < data.length; i++) {
+            if (data[i] == 0x1D && data[i + 1] == 'V') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts its jobs; can hold one job until released, or fail every job.
+     */
+    private static final class RecordingSink implements ReceiptSink {
+
+        private final String name;
+
+        private final AtomicInteger jobs = new AtomicInteger();
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private CountDownLatch release = new CountDownLatch(0);
+
+        private volatile boolean fail;
+
+        private RecordingSink(String name) {
+            this.name = name;
+        }
+
+        void blockNextJob() {
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void print(List<ReceiptDocument> documents) throws PrinterException {
+            jobs.incrementAndGet();
+            started.countDown();
+            if (fail) {
+                throw new PrinterException(name + " is out of paper");
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
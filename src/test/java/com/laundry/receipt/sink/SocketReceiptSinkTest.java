@@ -0,0 +1,146 @@
+package com.laundry.receipt.sink;
+
+import com.laundry.dto.ReceiptDto;
+import com.laundry.receipt.ReceiptDocument;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Prints a receipt through {@link SocketReceiptSink} and the ESC/POS text
+ * encoder to a local socket standing in for a network printer, and compares
+ * every byte the printer receives.
+ */
+class SocketReceiptSinkTest {
+
+    private static final byte ESC = 0x1B;
+
+    private static final byte GS = 0x1D;
+
+    private static final byte LF = 0x0A;
+
+    private static final Charset PC857 = Charset.forName("IBM857");
+
+    private static final ReceiptDto RECEIPT = receipt("Ayşe Yılmaz");
+
+    @Test
+    void sendsTheGoldenByteStream() throws Exception {
+        byte[] received = print(List.of(new ReceiptDocument(RECEIPT, receipt -> fail("text printers do not need a layout"))));
+
+        assertEquals(HexFormat.of().formatHex(golden("Ayşe Yılmaz", "Ayse Yilmaz")), HexFormat.of().formatHex(received));
+    }
+
+    @Test
+    void printsAnEmptyValueForAUserWithoutADisplayName() throws Exception {
+        byte[] received = print(List.of(new ReceiptDocument(receipt(null), receipt -> fail("text printers do not need a layout"))));
+
+        assertEquals(HexFormat.of().formatHex(golden("", "")), HexFormat.of().formatHex(received));
+    }
+
+    @Test
+    void cutsAfterEveryReceiptOfAJob() throws Exception {
+        ReceiptDocument document = new ReceiptDocument(RECEIPT, receipt -> fail("text printers do not need a layout"));
+        byte[] single = print(List.of(document));
+        byte[] twice = print(List.of(document, document));
+
+        // One initialization, then the receipt body, feed and cut per receipt.
+        int header = 5;
+        assertEquals(header + 2 * (single.length - header), twice.length);
+    }
+
+    /**
+     * Every byte of the receipt for {@code customer}, whose transliterated
+     * form {@code qrCustomer} goes into the QR code.
+     */
+    private static byte[] golden(String customer, String qrCustomer) {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        // Initialize, select code page 13 (PC857 Turkish).
+        bytes(expected, ESC, '@', ESC, 't', 13);
+        // Company name centred, bold, double size; "Çamaşırhane" in PC857.
+        bytes(expected, ESC, 'a', 1, ESC, 'E', 1, GS, '!', 0x11);
+        bytes(expected, 0x80, 'a', 'm', 'a', 0x9F, 0x8D, 'r', 'h', 'a', 'n', 'e', LF);
+        bytes(expected, ESC, 'E', 0, GS, '!', 0);
+        line(expected, "Temiz iş");
+        bytes(expected, LF);
+        // Left-aligned table, 48 columns of font A with 19 for the headers.
+        bytes(expected, ESC, 'a', 0);
+        line(expected, "Satıcı:            Çamaşırhane");
+        line(expected, "Müşteri:           " + customer);
+        line(expected, "Ürün:              Gömlek");
+        line(expected, "Servisler:         Yıkama, Ütü");
+        line(expected, "Ağırlık (GR):      500");
+        line(expected, "Parça sayısı:      2");
+        line(expected, "Referans Numarası: 26010500001");
+        line(expected, "Sipariş Tarihi:    05/01/2026 10:00:00");
+        bytes(expected, LF);
+        // Centred model 2 QR code: module size 5, error correction M, store, print.
+        bytes(expected, ESC, 'a', 1);
+        byte[] qrData = ("Satici: Camasirhane\nMusteri: " + qrCustomer + "\nUrun: Gomlek\nServisler: Yikama, Utu\n"
+                + "Agirlik (GR): 500\nParca sayisi: 2\nReferans Numarasi: 26010500001\n"
+                + "Siparis Tarihi: 05/01/2026 10:00:00").getBytes(PC857);
+        bytes(expected, GS, '(', 'k', 4, 0, '1', 'A', '2', 0);
+        bytes(expected, GS, '(', 'k', 3, 0, '1', 'C', 5);
+        bytes(expected, GS, '(', 'k', 3, 0, '1', 'E', '1');
+        bytes(expected, GS, '(', 'k', qrData.length + 3, 0, '1', 'P', '0');
+        expected.writeBytes(qrData);
+        bytes(expected, GS, '(', 'k', 3, 0, '1', 'Q', '0', LF);
+        line(expected, "26010500001");
+        bytes(expected, ESC, 'a', 0);
+        // Feed four lines and cut.
+        bytes(expected, ESC, 'd', 4, GS, 'V', 1);
+        return expected.toByteArray();
+    }
+
+    private static ReceiptDto receipt(String customerName) {
+        return ReceiptDto.builder()
+                .referenceNo("26010500001")
+                .version(1L)
+                .customerName(customerName)
+                .productName("Gömlek")
+                .services("Yıkama, Ütü")
+                .totalWeight("500")
+                .totalQuantity(2)
+                .orderDate("2026-01-05T10:00:00")
+                .build();
+    }
+
+    private static byte[] print(List<ReceiptDocument> documents) throws Exception {
+        try (ServerSocket printer = new ServerSocket(0)) {
+            CompletableFuture<byte[]> received = CompletableFuture.supplyAsync(() -> {
+                try (Socket connection = printer.accept()) {
+                    return connection.getInputStream().readAllBytes();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            SocketReceiptSink sink = new SocketReceiptSink("counter",
+                    new EscPosTextEncoder("Çamaşırhane", "Temiz iş", 576, 13, PC857, 5),
+                    "127.0.0.1", printer.getLocalPort(), Duration.ofSeconds(5));
+
+            sink.print(documents);
+            return received.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void bytes(ByteArrayOutputStream out, int... values) {
+        for (int value : values) {
+            out.write(value);
+        }
+    }
+
+    private static void line(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(PC857));
+        out.write(LF);
+    }
+}
@@ -0,0 +1,233 @@
+package com.laundry.repository;
+
+import com.laundry.config.CacheConfig;
+import com.laundry.config.PersistenceConfig;
+import com.laundry.entity.OrderStatus;
+import com.laundry.specification.OrderSpecification;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * EXPLAINs the SQL that the hot repository queries send and checks that none
+ * of them scans a whole table and that each uses the index added for it. The
+ * statements and their bound parameters are recorded at the JDBC level and
+ * explained on H2 with the same values, so the plans reflect the SQL
+ * Hibernate actually generates.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, CacheConfig.class, QueryPlanTest.StatementRecorder.class})
+@TestPropertySource(locations = "classpath:jpa-test.properties")
+class QueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 5, 12, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServicePriceRepository servicePriceRepository;
+
+    @Autowired
+    private OrderSHistoryRepository orderSHistoryRepository;
+
+    @Autowired
+    private OrderPSHistoryRepository orderPSHistoryRepository;
+
+    @BeforeEach
+    void clearContext() {
+        entityManager.clear();
+    }
+
+    @Test
+    void orderListingWalksTheCreatedAtIndex() {
+        assertUsesIndex("IDX_ORDERS_CREATED_AT_ID", () -> orderRepository.findSummaries(PageRequest.ofSize(20)));
+        assertUsesIndex("IDX_ORDERS_CREATED_AT_ID", () -> orderRepository.findSummariesAfter(NOW, 42L, PageRequest.ofSize(20)));
+        assertUsesIndex("IDX_ORDERS_CREATED_AT_ID", () -> orderRepository.findIdsCreatedBetween(NOW.minusDays(1), NOW, PageRequest.ofSize(100)));
+    }
+
+    @Test
+    void orderFiltersUseTheirCompositeIndexes() {
+        assertUsesIndex("IDX_ORDERS_USER_ID_STATUS", () -> orderRepository.findAll(
+                OrderSpecification.hasUserId(1L).and(OrderSpecification.hasStatus(OrderStatus.PENDING))));
+        assertUsesIndex("IDX_ORDERS_STATUS_CREATED_AT", () -> orderRepository.findAll(
+                OrderSpecification.hasStatus(OrderStatus.PENDING).and(OrderSpecification.createdBetween(NOW.minusDays(1), NOW))));
+        assertUsesIndex("IDX_ORDERS_STATUS_CREATED_AT", () -> orderRepository.lockIdsInStatusMatching(
+                OrderStatus.PENDING, null, NOW.minusDays(1), NOW, PageRequest.ofSize(100)));
+    }
+
+    @Test
+    void referenceNumberLookupsAreIndexRangeScans() {
+        assertUsesIndex("UK_ORDERS_REFERENCE_NO", () -> orderRepository.findAll(OrderSpecification.referenceNoMatches("25010300042")));
+        assertUsesIndex("UK_ORDERS_REFERENCE_NO", () -> orderRepository.findAll(OrderSpecification.referenceNoMatches("250103")));
+        assertUsesIndex("IDX_ORDERS_REFERENCE_NO_REVERSED", () -> orderRepository.findAll(OrderSpecification.referenceNoMatches("42")));
+        assertUsesIndex("UK_ORDERS_REFERENCE_NO", () -> orderRepository.findMaxReferenceNoStartingWith("250103"));
+    }
+
+    @Test
+    void orderItemsAndHistoryAreLoadedByOrderId() {
+        assertUsesIndex("ORDER_ID", () -> orderItemRepository.findByOrderIds(List.of(1L, 2L)));
+        assertUsesIndex("ORDER_ID = ?1", () -> orderSHistoryRepository.findByOrderId(1L, PageRequest.ofSize(20)));
+        assertUsesIndex("ORDER_ID = ?1", () -> orderPSHistoryRepository.findByOrderId(1L, PageRequest.ofSize(20)));
+    }
+
+    @Test
+    void priceLookupsUseTheServiceCurrencyKey() {
+        assertUsesIndex("UK_SERVICE_PRICES_SERVICE_ID_CURRENCY_CODE", () -> servicePriceRepository.findByServiceIdAndCurrencyCode(1L, "TRY"));
+        assertUsesIndex("UK_SERVICE_PRICES_SERVICE_ID_CURRENCY_CODE", () -> servicePriceRepository.existsByServiceIdAndCurrencyCode(1L, "TRY"));
+        assertUsesIndex("UK_SERVICE_PRICES_SERVICE_ID_CURRENCY_CODE", () -> servicePriceRepository.findByServiceIdInAndCurrencyCodeIn(List.of(1L, 2L), List.of("TRY")));
+    }
+
+    @Test
+    void userLookupsUseTheirKeys() {
+        assertUsesIndex("UK_USERS_USERNAME", () -> userRepository.findByUsername("ayse"));
+        assertUsesIndex("UK_USERS_EMAIL", () -> userRepository.findByEmail("ayse@example.com"));
+        assertUsesIndex("IDX_USERS_RESET_TOKEN", () -> userRepository.findByResetToken("token"));
+        assertUsesIndex("IDX_USERS_CREATED_AT_ID", () -> userRepository.findSummaries(
+                null, null, null, null, null, null, PageRequest.ofSize(20)));
+        assertUsesIndex("IDX_USERS_CREATED_AT_ID", () -> userRepository.findSummaries(
+                "USER", NOW.minusDays(30), NOW, "%ayse%", NOW, 42L, PageRequest.ofSize(20)));
+    }
+
+    /**
+     * Runs {@code query} and checks every statement it sent: no table scan,
+     * and at least one plan names {@code index} (an index name, or the
+     * condition H2 shows next to whichever index it picked on empty tables).
+     */
+    private void assertUsesIndex(String index, Runnable query) {
+        StatementRecorder.clear();
+        query.run();
+        List<RecordedQuery> queries = StatementRecorder.recorded();
+        assertFalse(queries.isEmpty(), "no query was sent");
+        boolean indexUsed = false;
+        for (RecordedQuery recorded : queries) {
+            String plan = explain(recorded);
+            assertFalse(plan.contains("tableScan"), () -> "full table scan in plan:\n" + plan);
+            indexUsed |= plan.contains(index);
+        }
+        assertTrue(indexUsed, () -> index + " not used by " + queries);
+    }
+
+    private String explain(RecordedQuery recorded) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + recorded.sql())) {
+                for (Map.Entry<Integer, Object> parameter : recorded.parameters().entrySet()) {
+                    statement.setObject(parameter.getKey(), parameter.getValue());
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    return result.getString(1);
+                }
+            }
+        });
+    }
+
+    record RecordedQuery(String sql, Map<Integer, Object> parameters) {
+    }
+
+    /**
+     * Wraps the data source so every executed query is recorded together with
+     * its bound parameters.
+     */
+    static class StatementRecorder implements BeanPostProcessor {
+
+        private static final List<RecordedQuery> RECORDED = Collections.synchronizedList(new ArrayList<>());
+
+        static void clear() {
+            RECORDED.clear();
+        }
+
+        static List<RecordedQuery> recorded() {
+            return List.copyOf(RECORDED);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    return proxy(Connection.class, (method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement")) {
+                            return recording((PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+                }
+            };
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, (method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    parameters.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("executeQuery")) {
+                    RECORDED.add(new RecordedQuery(sql, new TreeMap<>(parameters)));
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private interface Handler {
+            Object handle(Method method, Object[] args) throws Throwable;
+        }
+
+        private static <T> T proxy(Class<T> type, Handler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> handler.handle(method, args)));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
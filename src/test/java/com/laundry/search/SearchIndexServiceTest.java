@@ -0,0 +1,101 @@
+package com.laundry.search;
+
+import com.laundry.dto.SearchResultDto;
+import com.laundry.dto.SearchType;
+import com.laundry.entity.Product;
+import com.laundry.entity.User;
+import com.laundry.repository.ProductRepository;
+import com.laundry.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static com.laundry.TestEntities.product;
+import static com.laundry.TestEntities.user;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchIndexServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    private final SearchIndexService service = new SearchIndexService(
+            userRepository, productRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    void findsUsersAndProductsByAccentInsensitiveWords() {
+        when(userRepository.findAll()).thenReturn(List.of(withId(user("sukru"), 1L, "Şükrü Öztürk", "0532 123 45 67")));
+        when(productRepository.findAll()).thenReturn(List.of(withId(product("Kâğıt Havlu"), 2L)));
+        service.rebuild();
+
+        assertEquals(List.of(1L), ids(service.search("SUKRU ozturk", null, 10)));
+        assertEquals(List.of(1L), ids(service.search("+90 532 123 4567", SearchType.USER, 10)));
+        assertEquals(List.of(2L), ids(service.search("kagit", null, 10)));
+        assertEquals(List.of(), ids(service.search("kagit", SearchType.USER, 10)));
+    }
+
+    @Test
+    void keepsUpdatesThatCommitWhileRebuilding() {
+        User stale = withId(user("ayse"), 1L, "Ayşe Yılmaz", null);
+        User removed = withId(user("mehmet"), 2L, "Mehmet Kaya", null);
+        service.indexUser(stale);
+        service.indexUser(removed);
+
+        when(userRepository.findAll()).thenAnswer(invocation -> {
+            // Both commit after the rebuild started, but are missing from what it reads.
+            service.indexUser(withId(user("ayse"), 1L, "Ayşe Demir", null));
+            service.removeUser(2L);
+            service.indexUser(withId(user("zeynep"), 3L, "Zeynep Arslan", null));
+            return List.of(stale, removed);
+        });
+        when(productRepository.findAll()).thenAnswer(invocation -> {
+            // Searches meanwhile see the current index, with the updates already applied.
+            assertEquals(List.of(1L), ids(service.search("demir", null, 10)));
+            assertEquals(List.of(), ids(service.search("kaya", null, 10)));
+            return List.of();
+        });
+        service.rebuild();
+
+        assertEquals(List.of(1L), ids(service.search("demir", null, 10)));
+        assertEquals(List.of(), ids(service.search("yilmaz", null, 10)));
+        assertEquals(List.of(), ids(service.search("kaya", null, 10)));
+        assertEquals(List.of(3L), ids(service.search("zeynep", null, 10)));
+
+        // Once the rebuild is over, updates are no longer queued for it.
+        when(userRepository.findAll()).thenReturn(List.of(stale));
+        service.rebuild();
+        assertEquals(List.of(1L), ids(service.search("yilmaz", null, 10)));
+        assertEquals(List.of(), ids(service.search("zeynep", null, 10)));
+    }
+
+    @Test
+    void keepsTheCurrentIndexWhenARebuildFails() {
+        service.indexUser(withId(user("ayse"), 1L, "Ayşe Yılmaz", null));
+        when(userRepository.findAll()).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, service::rebuild);
+
+        assertEquals(List.of(1L), ids(service.search("ayse", null, 10)));
+    }
+
+    private static User withId(User user, long id, String displayName, String phone) {
+        user.setId(id);
+        user.setDisplayName(displayName);
+        user.setPhone(phone);
+        return user;
+    }
+
+    private static Product withId(Product product, long id) {
+        product.setId(id);
+        return product;
+    }
+
+    private static List<Long> ids(List<SearchResultDto> results) {
+        return results.stream().map(SearchResultDto::getId).toList();
+    }
+}
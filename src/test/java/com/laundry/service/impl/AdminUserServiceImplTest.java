@@ -0,0 +1,42 @@
+package com.laundry.service.impl;
+
+import com.laundry.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminUserServiceImplTest {
+
+    private static final Locale DEFAULT_LOCALE = Locale.getDefault();
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final AdminUserServiceImpl service = new AdminUserServiceImpl(userRepository);
+
+    @AfterEach
+    void restoreLocale() {
+        Locale.setDefault(DEFAULT_LOCALE);
+    }
+
+    @Test
+    void normalizesRoleAndKeywordWhateverTheDefaultLocale() {
+        // In Turkish, "user".toUpperCase() is "USER" with a dotted İ and "I".toLowerCase() a dotless ı.
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        when(userRepository.findSummaries(any(), any(), any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        service.getUsers("user", null, null, " IRMAK_100% ", null, null);
+
+        verify(userRepository).findSummaries(eq("USER"), isNull(), isNull(), eq("%irmak!_100!%%"),
+                isNull(), isNull(), any(Pageable.class));
+    }
+}
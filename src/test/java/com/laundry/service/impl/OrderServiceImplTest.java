@@ -0,0 +1,289 @@
+package com.laundry.service.impl;
+
+import com.laundry.TestEntities;
+import com.laundry.config.PersistenceConfig;
+import com.laundry.dto.OrderBatchItemResultDto;
+import com.laundry.dto.OrderBatchRequestDto;
+import com.laundry.dto.OrderBulkAdvanceRequestDto;
+import com.laundry.dto.OrderItemRequestDto;
+import com.laundry.dto.OrderRequestDto;
+import com.laundry.dto.OrderResponseDto;
+import com.laundry.entity.Order;
+import com.laundry.entity.OrderStatus;
+import com.laundry.entity.OrderStatusHistory;
+import com.laundry.entity.Product;
+import com.laundry.entity.Service;
+import com.laundry.entity.User;
+import com.laundry.exception.BadRequestException;
+import com.laundry.exception.ConflictException;
+import com.laundry.receipt.ReceiptRenderingService;
+import com.laundry.repository.OrderRepository;
+import com.laundry.repository.OrderSHistoryRepository;
+import com.laundry.repository.ProductRepository;
+import com.laundry.repository.ServiceRepository;
+import com.laundry.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs {@link OrderServiceImpl} against H2 with its own transactions; printing
+ * and receipt rendering are mocked out.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, OrderServiceImpl.class, ReferenceNoAllocator.class})
+@TestPropertySource(locations = "classpath:jpa-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceImplTest {
+
+    private static final String ADMIN = "ROLE_ADMIN";
+
+    private static final int THREADS = 8;
+
+    @MockitoBean
+    private QrCodePrintingService qrCodePrintingService;
+
+    @MockitoBean
+    private ReceiptPrintQueue receiptPrintQueue;
+
+    @MockitoBean
+    private ReceiptRenderingService receiptRenderingService;
+
+    @Autowired
+    private OrderServiceImpl orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSHistoryRepository orderSHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    private User user;
+
+    private Product product;
+
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(TestEntities.user("customer" + System.nanoTime()));
+        product = productRepository.save(TestEntities.product("shirt"));
+        service = serviceRepository.save(TestEntities.service("wash"));
+    }
+
+    @Test
+    void concurrentCreatesGetDistinctReferenceNumbers() throws Exception {
+        List<Callable<String>> creates = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            creates.add(() -> orderService.createOrder(orderRequest(), user.getId(), ADMIN).getReferenceNo());
+        }
+
+        Set<String> referenceNumbers = new HashSet<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<String> future : executor.invokeAll(creates)) {
+                referenceNumbers.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(creates.size(), referenceNumbers.size());
+    }
+
+    @Test
+    void concurrentBatchAndSingleCreatesGetDistinctReferenceNumbers() throws Exception {
+        int batchSize = 5;
+        List<Callable<List<String>>> creates = new ArrayList<>();
+        for (int i = 0; i < THREADS * 2; i++) {
+            if (i % 2 == 0) {
+                OrderBatchRequestDto batch = OrderBatchRequestDto.builder()
+                        .orders(Collections.nCopies(batchSize, orderRequest()))
+                        .build();
+                creates.add(() -> orderService.createOrders(batch, user.getId(), ADMIN).getResults().stream()
+                        .map(OrderBatchItemResultDto::getOrder)
+                        .map(OrderResponseDto::getReferenceNo)
+                        .toList());
+            } else {
+                creates.add(() -> List.of(orderService.createOrder(orderRequest(), user.getId(), ADMIN).getReferenceNo()));
+            }
+        }
+
+        List<String> referenceNumbers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<List<String>> future : executor.invokeAll(creates)) {
+                referenceNumbers.addAll(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(THREADS * (batchSize + 1), referenceNumbers.size());
+        assertEquals(referenceNumbers.size(), new HashSet<>(referenceNumbers).size());
+    }
+
+    /**
+     * Races many advances on the same orders. Whatever wins, every status an
+     * order went through must have exactly one history row, in order.
+     */
+    @Test
+    void concurrentAdvancesWriteOneHistoryRowPerTransition() throws Exception {
+        int orders = 10;
+        int advancesPerOrder = 6;
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            orderIds.add(orderService.createOrder(orderRequest(), user.getId(), ADMIN).getId());
+        }
+
+        List<Callable<Void>> advances = new ArrayList<>();
+        for (int i = 0; i < advancesPerOrder; i++) {
+            for (Long orderId : orderIds) {
+                advances.add(() -> {
+                    try {
+                        orderService.advanceOrderStatus(orderId, null, user.getId(), ADMIN);
+                    } catch (ConflictException | OptimisticLockingFailureException | BadRequestException e) {
+                        // Lost the race or the order is already delivered; the history check below decides.
+                    }
+                    return null;
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(advances)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        OrderStatus[] workflow = OrderStatus.values();
+        for (Long orderId : orderIds) {
+            OrderStatus status = orderRepository.findById(orderId).orElseThrow().getStatus();
+            List<OrderStatusHistory> history = orderSHistoryRepository
+                    .findByOrderId(orderId, PageRequest.of(0, 20, Sort.by("id")))
+                    .getContent();
+
+            assertNotEquals(OrderStatus.PENDING, status, "order " + orderId + " was never advanced");
+            assertEquals(status.ordinal(), history.size(), "history rows of order " + orderId);
+            for (int i = 0; i < history.size(); i++) {
+                assertEquals(workflow[i], history.get(i).getOldStatus());
+                assertEquals(workflow[i + 1], history.get(i).getNewStatus());
+            }
+        }
+    }
+
+    @Test
+    void rejectsABulkAdvanceWithoutIdsOrFilter() throws Exception {
+        OrderResponseDto pending = orderService.createOrder(orderRequest(), user.getId(), ADMIN);
+
+        OrderBulkAdvanceRequestDto unfiltered = OrderBulkAdvanceRequestDto.builder()
+                .fromStatus("PENDING")
+                .orderIds(List.of())
+                .build();
+
+        assertThrows(BadRequestException.class, () -> orderService.advanceOrderStatuses(unfiltered, user.getId(), ADMIN));
+        assertEquals(OrderStatus.PENDING, orderRepository.findById(pending.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void rejectsAKeywordOfOnlyWildcards() {
+        assertThrows(BadRequestException.class, () -> orderService.searchOrders(
+                null, null, null, null, null, null, "*", PageRequest.of(0, 10)));
+        assertThrows(BadRequestException.class, () -> orderService.searchOrdersByCursor(
+                null, null, null, null, null, null, " ** ", null, 10, false));
+    }
+
+    @Test
+    void searchPagesCostTheSameStatementsForOneOrManyOrders() {
+        int orders = 12;
+        for (int i = 0; i < orders; i++) {
+            Order order = TestEntities.order(user, product, "STMT" + user.getId() + "-" + i);
+            for (int j = 0; j < 3; j++) {
+                TestEntities.item(order, service);
+            }
+            orderRepository.save(order);
+        }
+
+        long single = statementsFor(() -> {
+            Page<OrderResponseDto> page = orderService.searchOrders(
+                    user.getId(), null, null, null, null, null, null, PageRequest.of(0, 1));
+            assertEquals(1, page.getContent().size());
+            assertEquals(3, page.getContent().getFirst().getOrderItems().size());
+        });
+        long many = statementsFor(() -> {
+            Page<OrderResponseDto> page = orderService.searchOrders(
+                    user.getId(), null, null, null, null, null, null, PageRequest.of(0, orders));
+            assertEquals(orders, page.getContent().size());
+            page.getContent().forEach(order -> assertEquals(3, order.getOrderItems().size()));
+        });
+
+        // The page, its count and one query for the items of all orders on it.
+        assertEquals(3, single);
+        assertEquals(single, many);
+    }
+
+    private long statementsFor(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private OrderRequestDto orderRequest() {
+        return OrderRequestDto.builder()
+                .userId(user.getId())
+                .productId(product.getId())
+                .currencyCode("TRY")
+                .orderItems(List.of(OrderItemRequestDto.builder()
+                        .serviceId(service.getId())
+                        .priceAmount(new BigDecimal("25.00"))
+                        .quantity(1)
+                        .weight(BigDecimal.ONE)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.laundry.service.impl;
+
+import com.laundry.TestEntities;
+import com.laundry.config.PersistenceConfig;
+import com.laundry.entity.Product;
+import com.laundry.entity.User;
+import com.laundry.exception.ConflictException;
+import com.laundry.repository.OrderReferenceSequenceRepository;
+import com.laundry.repository.OrderRepository;
+import com.laundry.repository.ProductRepository;
+import com.laundry.repository.UserRepository;
+import com.laundry.util.ReferenceNoUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Reservations commit in their own transactions, so the test methods run
+ * without a surrounding test transaction and each uses its own day.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, ReferenceNoAllocator.class})
+@TestPropertySource(locations = "classpath:jpa-test.properties")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceNoAllocatorTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ReferenceNoAllocator allocator;
+
+    @Autowired
+    private OrderReferenceSequenceRepository sequenceRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void concurrentReservationsNeverOverlap() throws Exception {
+        LocalDate day = LocalDate.of(2026, 1, 1);
+        int perThread = 25;
+
+        List<Callable<List<Long>>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int size = t % 2 == 0 ? 1 : 3;
+            tasks.add(() -> {
+                List<Long> sequences = new ArrayList<>();
+                for (int i = 0; i < perThread; i++) {
+                    long first = allocator.reserve(day, size);
+                    for (int k = 0; k < size; k++) {
+                        sequences.add(first + k);
+                    }
+                }
+                return sequences;
+            });
+        }
+
+        Set<Long> issued = new HashSet<>();
+        int total = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<List<Long>> future : executor.invokeAll(tasks)) {
+                List<Long> sequences = future.get();
+                total += sequences.size();
+                issued.addAll(sequences);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(total, issued.size());
+        assertEquals(1L, issued.stream().mapToLong(Long::longValue).min().orElseThrow());
+        assertEquals(total, issued.stream().mapToLong(Long::longValue).max().orElseThrow());
+    }
+
+    @Test
+    void continuesAfterOrdersNumberedBeforeTheCounterExisted() {
+        LocalDate day = LocalDate.of(2026, 1, 2);
+        User user = userRepository.save(TestEntities.user("numbered"));
+        Product product = productRepository.save(TestEntities.product("shirt"));
+        orderRepository.save(TestEntities.order(user, product, ReferenceNoUtil.format(day, 41)));
+
+        assertEquals(42, allocator.reserve(day, 1));
+        assertEquals(43, allocator.reserve(day, 5));
+        assertEquals(48, allocator.reserve(day, 1));
+    }
+
+    @Test
+    void rejectsReservationsPastTheLastSequence() {
+        LocalDate day = LocalDate.of(2026, 1, 3);
+        allocator.reserve(day, 1);
+        sequenceRepository.findById(ReferenceNoUtil.datePrefix(day)).ifPresent(sequence -> {
+            sequence.setLastSequence(ReferenceNoUtil.MAX_SEQUENCE - 2);
+            sequenceRepository.save(sequence);
+        });
+
+        assertThrows(ConflictException.class, () -> allocator.reserve(day, 3));
+        assertEquals(ReferenceNoUtil.MAX_SEQUENCE - 1, allocator.reserve(day, 2));
+        assertThrows(ConflictException.class, () -> allocator.reserve(day, 1));
+    }
+}
@@ -0,0 +1,21 @@
+package com.laundry.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LikeUtilTest {
+
+    @Test
+    void escapesWildcardsAndTheEscapeCharacter() {
+        assertEquals("50!%!_off!!%", LikeUtil.startsWith("50%_off!"));
+        assertEquals("%a!%b!_c!!d%", LikeUtil.contains("a%b_c!d"));
+    }
+
+    @Test
+    void leavesOrdinaryTextAsIs() {
+        assertEquals("250103%", LikeUtil.startsWith("250103"));
+        assertEquals("%ayse@example.com%", LikeUtil.contains("ayse@example.com"));
+        assertEquals("%%", LikeUtil.contains(""));
+    }
+}
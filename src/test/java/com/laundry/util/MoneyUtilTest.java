@@ -0,0 +1,149 @@
+package com.laundry.util;
+
+import com.laundry.entity.OrderItem;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the {@code long} arithmetic of {@link MoneyUtil} and
+ * {@link OrderUtil#computeOrderItemsTotal} against the same computation in
+ * {@link BigDecimal} on random inputs, including values that overflow a
+ * {@code long} and ties that exercise {@link RoundingMode#HALF_UP}.
+ */
+class MoneyUtilTest {
+
+    private static final int CASES = 100_000;
+
+    private static final String[] CURRENCIES = {"TRY", "USD", "JPY", "BHD", "XXX", "???", null};
+
+    @Test
+    void roundHalfUpMatchesBigDecimal() {
+        Random random = new Random(38);
+        for (int i = 0; i < CASES; i++) {
+            long dividend = randomLong(random);
+            long divisor = BigInteger.TEN.pow(1 + random.nextInt(18)).longValueExact();
+            long expected = BigDecimal.valueOf(dividend)
+                    .divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP)
+                    .longValueExact();
+
+            assertEquals(expected, MoneyUtil.roundHalfUp(dividend, divisor), dividend + " / " + divisor);
+        }
+    }
+
+    @Test
+    void roundsTiesAwayFromZero() {
+        assertEquals(3, MoneyUtil.roundHalfUp(25, 10));
+        assertEquals(-3, MoneyUtil.roundHalfUp(-25, 10));
+        assertEquals(2, MoneyUtil.roundHalfUp(249, 100));
+        assertEquals(Long.MAX_VALUE / 10 + 1, MoneyUtil.roundHalfUp(Long.MAX_VALUE, 10));
+        assertEquals(Long.MIN_VALUE / 10 - 1, MoneyUtil.roundHalfUp(Long.MIN_VALUE, 10));
+    }
+
+    @Test
+    void toAmountMatchesBigDecimalOrReportsOverflow() {
+        Random random = new Random(380);
+        for (int i = 0; i < CASES; i++) {
+            long unscaled = randomLong(random);
+            int fromScale = random.nextInt(9);
+            int toScale = random.nextInt(5);
+            BigDecimal expected = BigDecimal.valueOf(unscaled, fromScale).setScale(toScale, RoundingMode.HALF_UP);
+
+            if (expected.unscaledValue().bitLength() < Long.SIZE) {
+                assertEquals(expected, MoneyUtil.toAmount(unscaled, fromScale, toScale));
+            } else {
+                assertThrows(ArithmeticException.class, () -> MoneyUtil.toAmount(unscaled, fromScale, toScale));
+            }
+        }
+    }
+
+    @Test
+    void amountForGramsMatchesBigDecimal() {
+        Random random = new Random(3800);
+        for (int i = 0; i < CASES; i++) {
+            BigDecimal price = randomPrice(random);
+            long grams = random.nextBoolean() ? random.nextInt(100_000) : randomLong(random);
+            int scale = random.nextInt(4);
+            BigDecimal expected = price.multiply(BigDecimal.valueOf(grams))
+                    .movePointLeft(MoneyUtil.GRAMS_PER_KILOGRAM_SCALE)
+                    .setScale(scale, RoundingMode.HALF_UP);
+
+            assertEquals(expected, MoneyUtil.amountForGrams(price, grams, scale), price + " x " + grams + "g");
+        }
+    }
+
+    @Test
+    void orderTotalMatchesBigDecimal() {
+        Random random = new Random(38000);
+        for (int i = 0; i < CASES / 10; i++) {
+            List<OrderItem> items = new ArrayList<>();
+            int count = 1 + random.nextInt(random.nextBoolean() ? 3 : 100);
+            for (int j = 0; j < count; j++) {
+                items.add(item(randomPrice(random), random.nextBoolean() ? random.nextInt(20_000) : random.nextInt(Integer.MAX_VALUE)));
+            }
+            String currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+
+            assertEquals(referenceTotal(items, currency), OrderUtil.computeOrderItemsTotal(items, currency), items::toString);
+        }
+    }
+
+    @Test
+    void orderTotalFallsBackToBigDecimalOnOverflow() {
+        List<OrderItem> items = List.of(
+                item(new BigDecimal("999999999999999.99"), Integer.MAX_VALUE),
+                item(new BigDecimal("0.005"), 100),
+                item(new BigDecimal("123456789012345678901234.5"), 1));
+
+        assertEquals(referenceTotal(items, "TRY"), OrderUtil.computeOrderItemsTotal(items, "TRY"));
+    }
+
+    @Test
+    void orderTotalRoundsOnceAtTheEnd() {
+        // Each 5 g item costs 0.005 and would round to 0.01 on its own; the total 0.015 rounds to 0.02.
+        OrderItem fiveGrams = item(new BigDecimal("1.00"), 5);
+
+        assertEquals(new BigDecimal("0.02"), OrderUtil.computeOrderItemsTotal(List.of(fiveGrams, fiveGrams, fiveGrams), "TRY"));
+    }
+
+    private static BigDecimal referenceTotal(List<OrderItem> items, String currency) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (OrderItem item : items) {
+            sum = sum.add(item.getPriceAmount().multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        return sum.movePointLeft(MoneyUtil.GRAMS_PER_KILOGRAM_SCALE)
+                .setScale(MoneyUtil.currencyScale(currency), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * A price of up to 24 digits at scale -2 to 6, mostly of realistic size.
+     */
+    private static BigDecimal randomPrice(Random random) {
+        int digits = random.nextInt(4) == 0 ? 1 + random.nextInt(24) : 1 + random.nextInt(7);
+        BigInteger unscaled = new BigInteger(digits * 4, random).mod(BigInteger.TEN.pow(digits));
+        BigDecimal price = new BigDecimal(unscaled, random.nextInt(9) - 2);
+        return random.nextInt(10) == 0 ? price.negate() : price;
+    }
+
+    private static long randomLong(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> random.nextLong();
+            case 1 -> random.nextLong() % 1_000_000_000L;
+            default -> (random.nextLong() % 10_000) * 5;
+        };
+    }
+
+    private static OrderItem item(BigDecimal price, int quantity) {
+        OrderItem item = new OrderItem();
+        item.setPriceAmount(price);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
@@ -0,0 +1,105 @@
+package com.laundry.util;
+
+import com.laundry.dto.OrderItemRequestDto;
+import com.laundry.dto.OrderRequestDto;
+import com.laundry.entity.Order;
+import com.laundry.entity.OrderItem;
+import com.laundry.entity.Service;
+import com.laundry.mapper.OrderItemMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching the items of one order to their services: the binary search in
+ * {@link OrderUtil#buildOrderItems} against the per-item stream over all
+ * services it replaced. Run with
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main OrderItemMatchingBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemMatchingBenchmark {
+
+    @Param({"10", "100"})
+    private int items;
+
+    /**
+     * Services are loaded by the distinct ids of the items, so there are at
+     * most as many as items; 100 is the catalog-sized worst case.
+     */
+    @Param({"10", "100"})
+    private int services;
+
+    private Order order;
+
+    private OrderRequestDto request;
+
+    private List<Service> foundServices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(39);
+        foundServices = new ArrayList<>(services);
+        for (long id = 1; id <= services; id++) {
+            Service service = new Service();
+            service.setId(id * 7);
+            foundServices.add(service);
+        }
+        Collections.shuffle(foundServices, random);
+
+        List<OrderItemRequestDto> itemDtos = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            itemDtos.add(OrderItemRequestDto.builder()
+                    .serviceId(foundServices.get(random.nextInt(services)).getId())
+                    .priceAmount(BigDecimal.TEN)
+                    .quantity(1_000)
+                    .weight(BigDecimal.ONE)
+                    .build());
+        }
+        request = OrderRequestDto.builder().orderItems(itemDtos).build();
+        order = new Order();
+    }
+
+    @Benchmark
+    public List<OrderItem> binarySearch() {
+        return OrderUtil.buildOrderItems(order, request, foundServices);
+    }
+
+    /**
+     * The previous implementation: a stream over all services for every item.
+     */
+    @Benchmark
+    public List<OrderItem> linearStream() {
+        List<OrderItem> updatedItems = new ArrayList<>();
+        for (OrderItemRequestDto itemDto : request.getOrderItems()) {
+            Service matchedService = foundServices.stream()
+                    .filter(svc -> svc.getId().equals(itemDto.getServiceId()))
+                    .findFirst()
+                    .orElse(null);
+            updatedItems.add(OrderItemMapper.toEntity(itemDto, order, matchedService));
+        }
+        return updatedItems;
+    }
+}
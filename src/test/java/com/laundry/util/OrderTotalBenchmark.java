@@ -0,0 +1,85 @@
+package com.laundry.util;
+
+import com.laundry.entity.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order totals in scaled {@code long} units ({@link OrderUtil#computeOrderItemsTotal})
+ * against the same sum in {@link BigDecimal} and the {@code double} sum they
+ * replaced. Run with
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main OrderTotalBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"3", "100"})
+    private int items;
+
+    private List<OrderItem> orderItems;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(38);
+        orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            OrderItem item = new OrderItem();
+            item.setPriceAmount(BigDecimal.valueOf(500 + random.nextInt(50_000), 2));
+            item.setQuantity(100 + random.nextInt(10_000));
+            orderItems.add(item);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal scaledLong() {
+        return OrderUtil.computeOrderItemsTotal(orderItems, "TRY");
+    }
+
+    /**
+     * The exact result computed in {@link BigDecimal}, rounded once.
+     */
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (OrderItem item : orderItems) {
+            sum = sum.add(item.getPriceAmount().multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        return sum.movePointLeft(MoneyUtil.GRAMS_PER_KILOGRAM_SCALE).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The previous implementation: fast, but sums in {@code double}.
+     */
+    @Benchmark
+    public BigDecimal doubleSum() {
+        double sum = 0.0;
+        for (OrderItem item : orderItems) {
+            sum += item.getPriceAmount().doubleValue() * (item.getQuantity() / 1000.0);
+        }
+        return BigDecimal.valueOf(sum).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,49 @@
+package com.laundry.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReferenceNoUtilTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 3);
+
+    @Test
+    void formatsDateAndFiveDigitSequence() {
+        assertEquals("25010300042", ReferenceNoUtil.format(DAY, 42));
+        assertEquals("25010399999", ReferenceNoUtil.format(DAY, ReferenceNoUtil.MAX_SEQUENCE));
+    }
+
+    @Test
+    void rejectsSequencesThatDoNotFitTheFormat() {
+        assertThrows(IllegalArgumentException.class, () -> ReferenceNoUtil.format(DAY, 0));
+        assertThrows(IllegalArgumentException.class, () -> ReferenceNoUtil.format(DAY, ReferenceNoUtil.MAX_SEQUENCE + 1));
+    }
+
+    @Test
+    void readsTheSequenceBack() {
+        assertEquals(42, ReferenceNoUtil.sequenceOf("25010300042"));
+        assertEquals(0, ReferenceNoUtil.sequenceOf(null));
+        assertEquals(0, ReferenceNoUtil.sequenceOf("2501030004"));
+        assertEquals(0, ReferenceNoUtil.sequenceOf("250103000x2"));
+    }
+
+    @Test
+    void choosesTheMatchTypeFromTheKeyword() {
+        assertEquals(ReferenceNoUtil.MatchType.EXACT, ReferenceNoUtil.matchTypeOf("25010300042"));
+        assertEquals(ReferenceNoUtil.MatchType.PREFIX, ReferenceNoUtil.matchTypeOf("250103"));
+        assertEquals(ReferenceNoUtil.MatchType.PREFIX, ReferenceNoUtil.matchTypeOf("42*"));
+        assertEquals(ReferenceNoUtil.MatchType.SUFFIX, ReferenceNoUtil.matchTypeOf("42"));
+        assertEquals(ReferenceNoUtil.MatchType.SUFFIX, ReferenceNoUtil.matchTypeOf("*250103"));
+    }
+
+    @Test
+    void stripsWildcardMarkers() {
+        assertEquals("42", ReferenceNoUtil.stripWildcards("*42"));
+        assertEquals("2501", ReferenceNoUtil.stripWildcards("2501**"));
+        assertEquals("", ReferenceNoUtil.stripWildcards("*"));
+    }
+}
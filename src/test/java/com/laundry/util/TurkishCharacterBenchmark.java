@@ -0,0 +1,74 @@
+package com.laundry.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transliteration of receipt-sized lines with the {@link TurkishCharacterUtil}
+ * lookup tables against the chain of {@link String#replace} calls they
+ * replaced. Run with
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TurkishCharacterBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurkishCharacterBenchmark {
+
+    @Param({"ascii", "turkish"})
+    private String text;
+
+    private String line;
+
+    @Setup
+    public void setUp() {
+        line = switch (text) {
+            case "ascii" -> "Customer: Ahmet Yilmaz   Service: Dry cleaning 2.5 kg";
+            case "turkish" -> "Müşteri: Çağrı Öztaş   Hizmet: Kuru temizleme 2,5 kg";
+            default -> throw new IllegalArgumentException(text);
+        };
+    }
+
+    @Benchmark
+    public String tables() {
+        return TurkishCharacterUtil.convertTurkishCharacters(line);
+    }
+
+    /**
+     * The previous implementation: twelve passes, each allocating when it matches.
+     */
+    @Benchmark
+    public String replaceChain() {
+        return TurkishCharacterUtilTest.legacyConvert(line);
+    }
+
+    @Benchmark
+    public String searchKey() {
+        return TurkishCharacterUtil.toSearchKey(line);
+    }
+
+    /**
+     * What a search key cost before: the replace chain, then lower-casing.
+     */
+    @Benchmark
+    public String replaceChainLowerCase() {
+        return TurkishCharacterUtilTest.legacyConvert(line).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,134 @@
+package com.laundry.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Covers the edge cases of the {@link TurkishCharacterUtil} lookup tables and
+ * checks them against the chain of {@link String#replace} calls they replaced
+ * on random Turkish text.
+ */
+class TurkishCharacterUtilTest {
+
+    @Test
+    void transliteratesTurkishLetters() {
+        assertEquals("IGUSOCigusoc", TurkishCharacterUtil.convertTurkishCharacters("İĞÜŞÖÇığüşöç"));
+        assertEquals("Satici: Camasirhane", TurkishCharacterUtil.convertTurkishCharacters("Satıcı: Çamaşırhane"));
+        assertNull(TurkishCharacterUtil.convertTurkishCharacters(null));
+    }
+
+    @Test
+    void returnsTextThatNeedsNoChangeAsIs() {
+        String ascii = "Order 12345 for customer";
+        assertSame(ascii, TurkishCharacterUtil.convertTurkishCharacters(ascii));
+        String key = "istanbul";
+        assertSame(key, TurkishCharacterUtil.toSearchKey(key));
+        String fuzzy = "order 1 b";
+        assertSame(fuzzy, TurkishCharacterUtil.toFuzzyKey(fuzzy));
+    }
+
+    @Test
+    void searchKeyFoldsDottedAndDotlessI() {
+        assertEquals("istanbul", TurkishCharacterUtil.toSearchKey("İSTANBUL"));
+        assertEquals("istanbul", TurkishCharacterUtil.toSearchKey("Istanbul"));
+        assertEquals("istanbul", TurkishCharacterUtil.toSearchKey("ıstanbul"));
+        assertEquals("iiii", TurkishCharacterUtil.toSearchKey("İIıi"));
+        assertNull(TurkishCharacterUtil.toSearchKey(null));
+    }
+
+    @Test
+    void searchKeyKeepsCircumflexesAndSeparators() {
+        assertEquals("kâgit  / kalem", TurkishCharacterUtil.toSearchKey("Kâğıt  / Kalem"));
+    }
+
+    @Test
+    void fuzzyKeyCollapsesSeparators() {
+        assertEquals("cagri oztas kagit", TurkishCharacterUtil.toFuzzyKey("Çağrı  Öztaş / kâğıt"));
+        assertEquals("cagri oztas kagit", TurkishCharacterUtil.toFuzzyKey("Cagri Oztas-Kagit"));
+        assertEquals("a b c", TurkishCharacterUtil.toFuzzyKey("a\tb\n\rc"));
+        assertEquals("ab c", TurkishCharacterUtil.toFuzzyKey("ab  c"));
+        assertEquals("ab c", TurkishCharacterUtil.toFuzzyKey("ab.,;c"));
+        assertEquals("siparis 42", TurkishCharacterUtil.toFuzzyKey("Sipariş #42"));
+    }
+
+    @Test
+    void fuzzyKeyTrimsBothEnds() {
+        assertEquals("abc", TurkishCharacterUtil.toFuzzyKey("abc "));
+        assertEquals("abc", TurkishCharacterUtil.toFuzzyKey(" abc"));
+        assertEquals("abc", TurkishCharacterUtil.toFuzzyKey("--abc--"));
+        assertEquals("a b", TurkishCharacterUtil.toFuzzyKey("  a b  "));
+        assertEquals("", TurkishCharacterUtil.toFuzzyKey(" -/- "));
+        assertEquals("", TurkishCharacterUtil.toFuzzyKey(""));
+        assertNull(TurkishCharacterUtil.toFuzzyKey(null));
+    }
+
+    @Test
+    void fuzzyKeyDropsCircumflexes() {
+        assertEquals("kagit", TurkishCharacterUtil.toFuzzyKey("kâğıt"));
+        assertEquals("kagit", TurkishCharacterUtil.toFuzzyKey("KÂĞIT"));
+        assertEquals("iman", TurkishCharacterUtil.toFuzzyKey("Îmân"));
+        assertEquals("umit", TurkishCharacterUtil.toFuzzyKey("Ûmit"));
+    }
+
+    @Test
+    void handlesCharactersOutsideTheLookupTables() {
+        assertEquals("αθηνα", TurkishCharacterUtil.toSearchKey("ΑΘΗΝΑ"));
+        assertEquals("жук ёж", TurkishCharacterUtil.toFuzzyKey("Жук—Ёж"));
+        assertEquals("東京 2026", TurkishCharacterUtil.toFuzzyKey("東京・2026"));
+        assertEquals("ǆ", TurkishCharacterUtil.toSearchKey("Ǆ"));
+        assertEquals("ΑΘΗΝΑ", TurkishCharacterUtil.convertTurkishCharacters("ΑΘΗΝΑ"));
+    }
+
+    @Test
+    void matchesTheLegacyImplementationOnRandomText() {
+        String alphabet = "abcIİıiĞğÜüŞşÖöÇçâÂîÎûÛ -/.,xyzΩЖж東—\t  12";
+        Random random = new Random(47);
+        for (int n = 0; n < 200_000; n++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String input = text.toString();
+
+            String converted = legacyConvert(input);
+            assertEquals(converted, TurkishCharacterUtil.convertTurkishCharacters(input), input);
+            String searchKey = converted.toLowerCase(Locale.ROOT);
+            assertEquals(searchKey, TurkishCharacterUtil.toSearchKey(input), input);
+            String fuzzyKey = searchKey.replace('â', 'a').replace('î', 'i').replace('û', 'u')
+                    .replaceAll("[^\\p{L}\\p{Nd}]+", " ")
+                    .trim();
+            assertEquals(fuzzyKey, TurkishCharacterUtil.toFuzzyKey(input), input);
+        }
+    }
+
+    /**
+     * {@link TurkishCharacterUtil#convertTurkishCharacters} as it was before
+     * the lookup tables.
+     */
+    static String legacyConvert(String input) {
+        String result = input;
+
+        result = result.replace("İ", "I")
+                .replace("Ğ", "G")
+                .replace("Ü", "U")
+                .replace("Ş", "S")
+                .replace("Ö", "O")
+                .replace("Ç", "C");
+
+        result = result.replace("ı", "i")
+                .replace("ğ", "g")
+                .replace("ü", "u")
+                .replace("ş", "s")
+                .replace("ö", "o")
+                .replace("ç", "c");
+
+        return result;
+    }
+}